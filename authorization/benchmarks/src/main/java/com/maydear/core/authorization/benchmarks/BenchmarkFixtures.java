@@ -0,0 +1,107 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.maydear.core.authorization.AuthorizationIdentity;
+import com.maydear.core.authorization.AuthorizationIdentityRole;
+import com.maydear.core.authorization.Permission;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试公共数据
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * 静态工具类不应该被实例化
+     */
+    private BenchmarkFixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 构造指定数量的角色
+     *
+     * @param count 角色数量
+     * @return 返回角色列表
+     */
+    static List<AuthorizationIdentityRole> roles(int count) {
+        List<AuthorizationIdentityRole> roles = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            roles.add(AuthorizationIdentityRole.builder()
+                .name("role" + i)
+                .displayText("角色" + i)
+                .description("基准测试角色" + i)
+                .build());
+        }
+        return roles;
+    }
+
+    /**
+     * 构造典型的载荷信息
+     *
+     * @return 返回载荷信息
+     */
+    static Map<String, Object> payload() {
+        Map<String, Object> payload = Maps.newLinkedHashMap();
+        payload.put("userName", "benchmark");
+        payload.put("nickName", "基准测试用户");
+        payload.put("mobile", "13800138000");
+        payload.put("email", "benchmark@maydear.com");
+        payload.put("tenantId", 1024L);
+        return payload;
+    }
+
+    /**
+     * 构造授权书身份标识
+     *
+     * @param identity 身份标识
+     * @return 返回授权书身份标识
+     */
+    static AuthorizationIdentity authorizationIdentity(String identity) {
+        return AuthorizationIdentity.builder()
+            .identity(identity)
+            .ticket("ticket-" + identity)
+            .roles(roles(5))
+            .payload(payload())
+            .build();
+    }
+
+    /**
+     * 构造指定数量的许可清单，资源路径形如{@code /api/module{i}/resource/**}
+     *
+     * @param count 许可数量
+     * @return 返回许可清单
+     */
+    static List<Permission> permissions(int count) {
+        List<Permission> permissions = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            permissions.add(Permission.builder()
+                .name("role" + (i % 50))
+                .uri("/api/module" + i + "/resource/**")
+                .method("GET")
+                .build());
+        }
+        return permissions;
+    }
+}
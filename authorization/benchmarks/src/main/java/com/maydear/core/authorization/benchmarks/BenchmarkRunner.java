@@ -0,0 +1,68 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试启动入口
+ * <p>
+ * 统一以吞吐量模式运行，并挂载GC分析器输出每次操作的分配字节数（gc.alloc.rate.norm），
+ * 结果以JSON格式写入{@code target/jmh-result.json}，便于比对回归。
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar com.maydear.core.authorization.benchmarks.BenchmarkRunner [包含的基准正则...]
+ * </pre>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * 默认结果文件
+     */
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    /**
+     * 静态工具类不应该被实例化
+     */
+    private BenchmarkRunner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(DEFAULT_RESULT_FILE);
+
+        if (ArrayUtils.isEmpty(args)) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        } else {
+            for (String include : args) {
+                builder.include(include);
+            }
+        }
+        new Runner(builder.build()).run();
+    }
+}
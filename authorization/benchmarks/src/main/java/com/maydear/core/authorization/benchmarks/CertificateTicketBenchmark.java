@@ -0,0 +1,82 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.maydear.core.authorization.AuthorizationIdentityRole;
+import com.maydear.core.authorization.certificate.CertificateAuthorizationOptions;
+import com.maydear.core.authorization.certificate.CertificateTicket;
+import com.maydear.core.framework.util.RSAUtils;
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 证书票据生成与解析基准
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CertificateTicketBenchmark {
+
+    private static final String IDENTITY = "10000001";
+
+    private CertificateAuthorizationOptions options;
+
+    private List<AuthorizationIdentityRole> roles;
+
+    private Map<String, Object> payload;
+
+    private String ticketValue;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyPair keyPair = RSAUtils.getKeyPair();
+        options = new CertificateAuthorizationOptions();
+        options.setApplicationName("maydear-benchmarks");
+        options.setPublicKey(Base64.encodeBase64String(keyPair.getPublic().getEncoded()));
+        options.setPrivateKey(Base64.encodeBase64String(keyPair.getPrivate().getEncoded()));
+
+        roles = BenchmarkFixtures.roles(5);
+        payload = BenchmarkFixtures.payload();
+        ticketValue = generate();
+        if (parse() == null) {
+            throw new IllegalStateException("certificate ticket generated by generate() failed to parse");
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return CertificateTicket.newInstance(IDENTITY, roles, payload, options, LocalDateTime.now(ZoneOffset.UTC))
+            .toAuthorizationTicketValue();
+    }
+
+    @Benchmark
+    public CertificateTicket parse() {
+        return CertificateTicket.formAuthorizationTicketValue(ticketValue, options);
+    }
+}
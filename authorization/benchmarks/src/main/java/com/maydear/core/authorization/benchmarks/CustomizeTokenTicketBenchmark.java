@@ -0,0 +1,55 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.maydear.core.authorization.customize.CustomizeTokenTicket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 自定义访问令牌票据生成与解析基准
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomizeTokenTicketBenchmark {
+
+    private static final String IDENTITY = "10000001";
+
+    private String ticketValue;
+
+    @Setup
+    public void setup() {
+        ticketValue = CustomizeTokenTicket.newInstance(IDENTITY).generateAuthorizationTicketValue();
+    }
+
+    @Benchmark
+    public String generate() {
+        return CustomizeTokenTicket.newInstance(IDENTITY).generateAuthorizationTicketValue();
+    }
+
+    @Benchmark
+    public CustomizeTokenTicket parse() {
+        return CustomizeTokenTicket.formAuthorizationTicketValue(ticketValue);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.maydear.core.authorization.Permission;
+import com.maydear.core.authorization.PermissionService;
+import com.maydear.core.authorization.spring.security.MyInvocationSecurityMetadataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.web.FilterInvocation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * MyInvocationSecurityMetadataSource在不同许可清单规模下的匹配基准
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvocationSecurityMetadataSourceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int permissionCount;
+
+    private MyInvocationSecurityMetadataSource metadataSource;
+
+    /**
+     * 命中清单中间位置的请求
+     */
+    private FilterInvocation hitRequest;
+
+    /**
+     * 未命中任何许可的请求
+     */
+    private FilterInvocation missRequest;
+
+    @Setup
+    public void setup() {
+        List<Permission> permissions = BenchmarkFixtures.permissions(permissionCount);
+        metadataSource = new MyInvocationSecurityMetadataSource(new FixedPermissionService(permissions));
+        hitRequest = new FilterInvocation("/api/module" + (permissionCount / 2) + "/resource/detail", "GET");
+        missRequest = new FilterInvocation("/api/unknown/resource/detail", "GET");
+    }
+
+    @Benchmark
+    public Collection<ConfigAttribute> hit() {
+        return metadataSource.getAttributes(hitRequest);
+    }
+
+    @Benchmark
+    public Collection<ConfigAttribute> miss() {
+        return metadataSource.getAttributes(missRequest);
+    }
+
+    /**
+     * 返回固定许可清单的许可服务
+     */
+    private static final class FixedPermissionService implements PermissionService {
+
+        private final List<Permission> permissions;
+
+        private FixedPermissionService(List<Permission> permissions) {
+            this.permissions = permissions;
+        }
+
+        @Override
+        public List<Permission> getAll() {
+            return permissions;
+        }
+
+        @Override
+        public List<Permission> getListByRole(String roleName) {
+            return permissions.stream().filter(p -> roleName.equals(p.getName())).collect(Collectors.toList());
+        }
+    }
+}
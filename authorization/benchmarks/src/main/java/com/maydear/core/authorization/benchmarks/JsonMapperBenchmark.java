@@ -0,0 +1,139 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maydear.core.authorization.AuthorizationIdentity;
+import com.maydear.core.framework.PackageObject;
+import com.maydear.core.framework.PageList;
+import com.maydear.core.framework.jackson.mapper.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonMapper典型DTO序列化及反序列化基准
+ * <p>
+ * legacy前缀的基准直接调用ObjectMapper的readValue/writeValueAsString，作为缓存ObjectReader/ObjectWriter前的对照组；
+ * afterburner后缀的基准使用注册了Afterburner模块的JsonMapper。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMapperBenchmark {
+
+    /**
+     * 分页记录数
+     */
+    private static final int PAGE_SIZE = 20;
+
+    private JsonMapper jsonMapper;
+
+    private JsonMapper afterburnerJsonMapper;
+
+    private ObjectMapper objectMapper;
+
+    private AuthorizationIdentity identity;
+
+    private PackageObject packageObject;
+
+    private String identityJson;
+
+    private String packageObjectJson;
+
+    @Setup
+    public void setup() {
+        jsonMapper = new JsonMapper();
+        afterburnerJsonMapper = new JsonMapper().registerAfterburnerModule();
+        objectMapper = new JsonMapper().getMapper();
+
+        identity = BenchmarkFixtures.authorizationIdentity("10000001");
+        List<AuthorizationIdentity> records = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            records.add(BenchmarkFixtures.authorizationIdentity(String.valueOf(10000000 + i)));
+        }
+        packageObject = new PackageObject();
+        packageObject.setNow(LocalDateTime.now());
+        packageObject.setRequestId(UUID.randomUUID());
+        packageObject.setStatusCode(200);
+        packageObject.setBody(new PageList<>(PAGE_SIZE, 1, 1000L, records));
+
+        identityJson = jsonMapper.toJson(identity);
+        packageObjectJson = jsonMapper.toJson(packageObject);
+    }
+
+    @Benchmark
+    public String serializeIdentity() {
+        return jsonMapper.toJson(identity);
+    }
+
+    @Benchmark
+    public String serializePackageObject() {
+        return jsonMapper.toJson(packageObject);
+    }
+
+    @Benchmark
+    public AuthorizationIdentity deserializeIdentity() {
+        return jsonMapper.fromJson(identityJson, AuthorizationIdentity.class);
+    }
+
+    @Benchmark
+    public PackageObject deserializePackageObject() {
+        return jsonMapper.fromJson(packageObjectJson, PackageObject.class);
+    }
+
+    @Benchmark
+    public String serializePackageObjectAfterburner() {
+        return afterburnerJsonMapper.toJson(packageObject);
+    }
+
+    @Benchmark
+    public AuthorizationIdentity deserializeIdentityAfterburner() {
+        return afterburnerJsonMapper.fromJson(identityJson, AuthorizationIdentity.class);
+    }
+
+    @Benchmark
+    public String legacySerializeIdentity() throws IOException {
+        return objectMapper.writeValueAsString(identity);
+    }
+
+    @Benchmark
+    public String legacySerializePackageObject() throws IOException {
+        return objectMapper.writeValueAsString(packageObject);
+    }
+
+    @Benchmark
+    public AuthorizationIdentity legacyDeserializeIdentity() throws IOException {
+        return objectMapper.readValue(identityJson, AuthorizationIdentity.class);
+    }
+
+    @Benchmark
+    public PackageObject legacyDeserializePackageObject() throws IOException {
+        return objectMapper.readValue(packageObjectJson, PackageObject.class);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.maydear.core.authorization.jwt.JwtOptions;
+import com.maydear.core.authorization.jwt.JwtTicket;
+import com.maydear.core.authorization.jwt.util.JwtTokenUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenUtils编码与解码基准
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenUtilsBenchmark {
+
+    private JwtOptions options;
+
+    private JwtTicket jwtTicket;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        options = new JwtOptions();
+        options.setSecret(JwtOptions.DEFAULT_SECRET);
+        options.setIssuer(JwtOptions.DEFAULT_ISSUER);
+        options.setExpired(JwtOptions.DEFAULT_EXPIRED);
+
+        jwtTicket = new JwtTicket("10000001", BenchmarkFixtures.roles(5), BenchmarkFixtures.payload());
+        token = JwtTokenUtils.encode(jwtTicket, options);
+    }
+
+    @Benchmark
+    public String encode() {
+        return JwtTokenUtils.encode(jwtTicket, options);
+    }
+
+    @Benchmark
+    public JwtTicket decode() {
+        return JwtTokenUtils.decode(token, options);
+    }
+}
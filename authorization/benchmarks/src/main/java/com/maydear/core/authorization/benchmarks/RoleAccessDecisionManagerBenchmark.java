@@ -0,0 +1,86 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.maydear.core.authorization.AuthorizationIdentity;
+import com.maydear.core.authorization.spring.security.AuthorizationIdentityAuthentication;
+import com.maydear.core.authorization.spring.security.RoleAccessDecisionManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.access.SecurityConfig;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.FilterInvocation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoleAccessDecisionManager.decide基准
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoleAccessDecisionManagerBenchmark {
+
+    private RoleAccessDecisionManager decisionManager;
+
+    private Authentication authentication;
+
+    private FilterInvocation filterInvocation;
+
+    /**
+     * 与身份最后一个角色匹配的许可配置
+     */
+    private List<ConfigAttribute> grantedAttributes;
+
+    /**
+     * 与身份所有角色都不匹配的许可配置
+     */
+    private List<ConfigAttribute> deniedAttributes;
+
+    @Setup
+    public void setup() {
+        decisionManager = new RoleAccessDecisionManager();
+        AuthorizationIdentity authorizationIdentity = BenchmarkFixtures.authorizationIdentity("10000001");
+        authentication = new AuthorizationIdentityAuthentication(authorizationIdentity);
+        filterInvocation = new FilterInvocation("/api/module1/resource/detail", "GET");
+        grantedAttributes = SecurityConfig.createList("ROLE_other1", "ROLE_other2", "ROLE_role4");
+        deniedAttributes = SecurityConfig.createList("ROLE_other1", "ROLE_other2", "ROLE_other3");
+    }
+
+    @Benchmark
+    public boolean granted() {
+        decisionManager.decide(authentication, filterInvocation, grantedAttributes);
+        return true;
+    }
+
+    @Benchmark
+    public boolean denied() {
+        try {
+            decisionManager.decide(authentication, filterInvocation, deniedAttributes);
+            return true;
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.benchmarks;
+
+import com.maydear.core.authorization.AuthorizationIdentity;
+import com.maydear.core.authorization.store.memory.MemoryCacheAuthorizationOptions;
+import com.maydear.core.authorization.store.memory.TicketStoreMemoryCacheImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TicketStoreMemoryCacheImpl多线程竞争下的读写基准
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketStoreMemoryCacheBenchmark {
+
+    /**
+     * 预热的身份数量
+     */
+    private static final int IDENTITY_COUNT = 10000;
+
+    private TicketStoreMemoryCacheImpl ticketStore;
+
+    private String[] keys;
+
+    private AuthorizationIdentity[] identities;
+
+    @Setup
+    public void setup() {
+        MemoryCacheAuthorizationOptions options = new MemoryCacheAuthorizationOptions();
+        options.setInitialCapacity(IDENTITY_COUNT);
+        options.setMaximumSize(IDENTITY_COUNT * 2);
+        options.setExpired(MemoryCacheAuthorizationOptions.DEFAULT_EXPIRED);
+        ticketStore = new TicketStoreMemoryCacheImpl(options);
+        ticketStore.initCache();
+
+        keys = new String[IDENTITY_COUNT];
+        identities = new AuthorizationIdentity[IDENTITY_COUNT];
+        for (int i = 0; i < IDENTITY_COUNT; i++) {
+            keys[i] = String.valueOf(10000000 + i);
+            identities[i] = BenchmarkFixtures.authorizationIdentity(keys[i]);
+            ticketStore.store(identities[i]);
+        }
+    }
+
+    private int nextIndex() {
+        return ThreadLocalRandom.current().nextInt(IDENTITY_COUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public AuthorizationIdentity retrieveOnly() {
+        return ticketStore.retrieve(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public AuthorizationIdentity mixedRetrieve() {
+        return ticketStore.retrieve(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void mixedStore() {
+        ticketStore.store(identities[nextIndex()]);
+    }
+}
@@ -16,9 +16,14 @@
 
 package com.maydear.core.authorization.certificate;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.UntypedObjectDeserializer;
 import com.maydear.core.authorization.AuthorizationIdentityRole;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -31,14 +36,17 @@ import java.util.Collection;
  * @version 1.0.0
  */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class CertificateIdentity implements Serializable {
 
     private static final long serialVersionUID = 1251854365889366872L;
 
     /**
-     * 身份标识
+     * 身份标识，解析时按json值还原为字符串或数值
      */
+    @JsonDeserialize(using = UntypedObjectDeserializer.class)
     private Serializable identity;
 
     /**
@@ -74,6 +74,11 @@ public class CertificateTicket {
      */
     private CertificateIdentity certificateIdentity;
 
+    /**
+     * 令牌票据源密文，RSA加密带随机填充，签名与票据值必须使用同一份密文
+     */
+    private String ticketSource;
+
     /**
      * 签名
      */
@@ -97,16 +102,30 @@ public class CertificateTicket {
      * @return 返回拼接结构
      */
     protected String getTicketSource() {
+        if (ticketSource != null) {
+            return ticketSource;
+        }
         String source = JsonMapper.INSTANCE.toJson(certificateIdentity);
 
         try {
-            return RSAUtils.encrypt(source, options.getPublicKey());
+            ticketSource = RSAUtils.encrypt(source, options.getPublicKey());
+            return ticketSource;
         } catch (Exception e) {
             log.error(e.getMessage());
             throw new EncryptionErrorException();
         }
     }
 
+    /**
+     * 设置身份标识，已生成的令牌票据源密文随之失效
+     *
+     * @param certificateIdentity 身份标识
+     */
+    public void setCertificateIdentity(CertificateIdentity certificateIdentity) {
+        this.certificateIdentity = certificateIdentity;
+        this.ticketSource = null;
+    }
+
     /**
      * 解密数据
      *
@@ -178,6 +197,7 @@ public class CertificateTicket {
 
         CertificateTicket customizeTokenTicket = new CertificateTicket();
         customizeTokenTicket.setCertificateIdentity(certificateIdentity);
+        customizeTokenTicket.setTicketSource(splitValue[AUTHORIZATION_TICKET_VALUE_INDEX]);
         customizeTokenTicket.setSignature(splitValue[TOKEN_TICKET_SIGNATURE_VALUE_INDEX]);
         customizeTokenTicket.setOptions(options);
         if (customizeTokenTicket.verify(Base64Utils.decode(splitValue[AUTHORIZATION_TICKET_NAME_VALUE_INDEX]))) {
@@ -215,9 +235,9 @@ public class CertificateTicket {
             .build();
         CertificateTicket customizeTokenTicket = new CertificateTicket();
         customizeTokenTicket.setCertificateIdentity(certificateIdentity);
+        customizeTokenTicket.setOptions(options);
         String signatureString = customizeTokenTicket.generateSignature(options.getApplicationName());
         customizeTokenTicket.setSignature(signatureString);
-        customizeTokenTicket.setOptions(options);
         return customizeTokenTicket;
     }
 
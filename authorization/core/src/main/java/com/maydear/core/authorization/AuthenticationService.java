@@ -16,6 +16,8 @@
 package com.maydear.core.authorization;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -42,6 +44,21 @@ public interface AuthenticationService {
      */
     String signIn(Serializable identity, List<AuthorizationIdentityRole> roles, Object payload);
 
+    /**
+     * 批量登录，用于服务账号以及批处理任务批量签发票据，默认逐个调用{@link #signIn(Serializable, List, Object)}
+     *
+     * @param authorizationIdentities 待登录的授权书身份标识（只使用身份认证、身份角色以及载荷信息）
+     * @return 按输入顺序返回认证票据
+     */
+    default List<String> signInAll(Collection<AuthorizationIdentity> authorizationIdentities) {
+        List<String> tickets = new ArrayList<>(authorizationIdentities.size());
+        for (AuthorizationIdentity authorizationIdentity : authorizationIdentities) {
+            Collection<AuthorizationIdentityRole> roles = authorizationIdentity.getRoles();
+            tickets.add(signIn(authorizationIdentity.getIdentity(), roles == null ? null : new ArrayList<>(roles), authorizationIdentity.getPayload()));
+        }
+        return tickets;
+    }
+
     /**
      * 登出指定用户
      *
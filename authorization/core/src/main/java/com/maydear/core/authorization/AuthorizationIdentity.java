@@ -28,6 +28,8 @@ import java.util.Collection;
  * @version 1.0.0
  */
 @Data
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -47,7 +49,7 @@ public class AuthorizationIdentity implements Serializable {
     private String ticket;
 
     /**
-     * 载荷信息
+     * 载荷信息，可以是{@link LazyPayload}
      */
     private Object payload;
 
@@ -56,4 +58,44 @@ public class AuthorizationIdentity implements Serializable {
      */
     private Collection<AuthorizationIdentityRole> roles;
 
+    /**
+     * 获取载荷信息，延迟载荷在首次访问时解析
+     *
+     * @return 返回载荷信息
+     */
+    public Object getPayload() {
+        if (payload instanceof LazyPayload) {
+            return ((LazyPayload) payload).get();
+        }
+        return payload;
+    }
+
+    /**
+     * 获取指定类型的载荷信息
+     *
+     * @param clazz 载荷类型
+     * @param <T>   载荷泛型
+     * @return 返回载荷信息
+     */
+    public <T> T getPayload(Class<T> clazz) {
+        if (payload instanceof LazyPayload) {
+            return ((LazyPayload) payload).get(clazz);
+        }
+        if (payload == null || clazz.isInstance(payload)) {
+            return clazz.cast(payload);
+        }
+        return PayloadConverter.convert(payload, clazz);
+    }
+
+    /**
+     * 返回载荷信息转为延迟载荷的副本，用于跨进程存储，载荷须实现{@link Serializable}
+     *
+     * @return 返回授权身份标识
+     */
+    public AuthorizationIdentity withLazyPayload() {
+        if (payload == null || payload instanceof LazyPayload) {
+            return this;
+        }
+        return withPayload(LazyPayload.of(payload));
+    }
 }
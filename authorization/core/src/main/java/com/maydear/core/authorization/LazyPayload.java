@@ -0,0 +1,187 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * 延迟解析的载荷信息
+ * <p>
+ * 保存载荷的Java序列化字节，在首次访问时才反序列化为对象并缓存，只需要身份标识和角色的请求不会产生载荷解析开销。
+ * 与直接序列化载荷相同，取回的载荷类型、数值类型及泛型元素均与原对象一致；载荷必须实现{@link Serializable}。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@JsonSerialize(using = LazyPayload.ValueSerializer.class)
+public final class LazyPayload implements Serializable {
+
+    private static final long serialVersionUID = -3287011395424786547L;
+
+    /**
+     * 载荷的Java序列化字节
+     */
+    private final byte[] content;
+
+    /**
+     * 已解析的载荷
+     */
+    private transient volatile Object value;
+
+    private LazyPayload(byte[] content, Object value) {
+        this.content = content;
+        this.value = value;
+    }
+
+    /**
+     * 由已有载荷构造，本地访问直接返回原对象
+     *
+     * @param payload 载荷信息
+     * @return 返回延迟载荷，载荷为空时返回null
+     * @throws IllegalArgumentException 载荷无法序列化时抛出的异常
+     */
+    public static LazyPayload of(Object payload) {
+        if (payload == null || payload instanceof LazyPayload) {
+            return (LazyPayload) payload;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("载荷信息序列化失败：" + payload.getClass().getName(), e);
+        }
+        return new LazyPayload(bytes.toByteArray(), payload);
+    }
+
+    /**
+     * 获取载荷，首次访问时解析
+     *
+     * @return 返回载荷对象
+     * @throws IllegalStateException 载荷无法反序列化时抛出的异常
+     */
+    public Object get() {
+        Object result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = decode();
+                    value = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取指定类型的载荷，载荷类型不一致时按属性转换
+     *
+     * @param clazz 载荷类型
+     * @param <T>   载荷泛型
+     * @return 返回载荷对象
+     */
+    public <T> T get(Class<T> clazz) {
+        Object result = get();
+        if (clazz.isInstance(result)) {
+            return clazz.cast(result);
+        }
+        return PayloadConverter.convert(result, clazz);
+    }
+
+    /**
+     * 是否已经解析
+     *
+     * @return 已解析返回true
+     */
+    public boolean isMaterialized() {
+        return value != null;
+    }
+
+    private Object decode() {
+        try (ObjectInputStream input = new ContextObjectInputStream(new ByteArrayInputStream(content))) {
+            Object result = input.readObject();
+            if (result == null) {
+                throw new IllegalStateException("载荷信息为空");
+            }
+            return result;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("载荷信息反序列化失败", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(content, ((LazyPayload) o).content);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(content);
+    }
+
+    @Override
+    public String toString() {
+        Object result = value;
+        return result != null ? result.toString() : "LazyPayload(" + content.length + " bytes)";
+    }
+
+    /**
+     * 优先使用线程上下文类加载器解析载荷类型，与Web容器及Spring的反序列化行为一致
+     */
+    private static final class ContextObjectInputStream extends ObjectInputStream {
+
+        private ContextObjectInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // 回退到默认的类加载器
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    /**
+     * 按解析后的载荷输出JSON
+     */
+    public static class ValueSerializer extends JsonSerializer<LazyPayload> {
+
+        @Override
+        public void serialize(LazyPayload value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            serializers.defaultSerializeValue(value.get(), gen);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 载荷类型转换工具
+ * <p>
+ * 使用模块内的{@link ObjectMapper}按属性转换载荷，不依赖框架的json配置；类路径中存在的jackson模块（如jsr310）自动注册。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+final class PayloadConverter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private PayloadConverter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 转换载荷类型
+     *
+     * @param payload 载荷信息
+     * @param clazz   目标类型
+     * @param <T>     载荷泛型
+     * @return 返回转换后的载荷
+     */
+    static <T> T convert(Object payload, Class<T> clazz) {
+        return MAPPER.convertValue(payload, clazz);
+    }
+}
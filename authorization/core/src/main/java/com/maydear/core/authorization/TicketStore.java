@@ -15,6 +15,8 @@
  */
 package com.maydear.core.authorization;
 
+import java.util.Collection;
+
 /**
  * 票据存储接口
  *
@@ -30,6 +32,17 @@ public interface TicketStore {
      */
     void store(AuthorizationIdentity authorizationIdentity);
 
+    /**
+     * 批量存储授权书身份标识，默认逐个调用{@link #store(AuthorizationIdentity)}，支持批量写入的实现可重写此方法
+     *
+     * @param authorizationIdentities 授权书身份标识集合
+     */
+    default void storeAll(Collection<AuthorizationIdentity> authorizationIdentities) {
+        for (AuthorizationIdentity authorizationIdentity : authorizationIdentities) {
+            store(authorizationIdentity);
+        }
+    }
+
     /**
      * 取回存储值的值
      *
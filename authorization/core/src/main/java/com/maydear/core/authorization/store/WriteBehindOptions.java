@@ -0,0 +1,73 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.store;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * 异步写回（write-behind）票据存储选项
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Data
+public class WriteBehindOptions implements Serializable {
+
+    private static final long serialVersionUID = 6437213079284626613L;
+
+    /**
+     * 默认队列容量
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+    /**
+     * 默认单批写入数量
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * 默认刷新间隔
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(50);
+
+    /**
+     * 默认队列满时的最长等待时间
+     */
+    public static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofMillis(20);
+
+    /**
+     * 队列容量
+     */
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * 单批写入数量
+     */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * 刷新间隔
+     */
+    private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+    /**
+     * 队列满时调用方的最长等待时间，超时后由调用方线程同步写入
+     */
+    private Duration offerTimeout = DEFAULT_OFFER_TIMEOUT;
+}
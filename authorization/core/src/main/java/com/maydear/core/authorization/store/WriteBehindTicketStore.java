@@ -0,0 +1,231 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.authorization.store;
+
+import com.maydear.core.authorization.AuthorizationIdentity;
+import com.maydear.core.authorization.TicketStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 异步写回（write-behind）票据存储
+ * <p>
+ * 包装实际的票据存储：{@link #store(AuthorizationIdentity)}只写入本地待写表并进入有界队列，由后台线程按刷新间隔或攒满一批后
+ * 调用{@link TicketStore#storeAll(java.util.Collection)}批量写入；本节点在写入完成前的读取直接命中待写表，保证读到自己的写入。
+ * 队列已满且在等待时间内仍无空位时，由调用方线程同步写入，以此向调用方施加背压。
+ * 批量写入失败时会尝试重新入队，等待下一次刷新重试，重新入队失败的票据将被丢弃并记录错误日志。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Slf4j
+public class WriteBehindTicketStore implements TicketStore, AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /**
+     * 实际的票据存储
+     */
+    private final TicketStore delegate;
+
+    private final WriteBehindOptions options;
+
+    /**
+     * 待写队列
+     */
+    private final BlockingQueue<AuthorizationIdentity> queue;
+
+    /**
+     * 尚未写入的票据，键为身份标识
+     */
+    private final ConcurrentMap<String, AuthorizationIdentity> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 保证批量写入与移除之间互斥，避免已移除的票据被延迟写入复活
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean closed;
+
+    public WriteBehindTicketStore(TicketStore delegate, WriteBehindOptions options) {
+        this.delegate = delegate;
+        this.options = options;
+        this.queue = new ArrayBlockingQueue<>(options.getQueueCapacity());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticket-store-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = options.getFlushInterval().toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void store(AuthorizationIdentity authorizationIdentity) {
+        if (closed) {
+            delegate.store(authorizationIdentity);
+            return;
+        }
+
+        String key = authorizationIdentity.getIdentity().toString();
+        pending.put(key, authorizationIdentity);
+
+        boolean queued;
+        try {
+            queued = queue.offer(authorizationIdentity, options.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+
+        // 入队期间已关闭时，最后一次刷新可能已经结束，由调用方线程写入
+        if (!queued || closed) {
+            storeNow(key, authorizationIdentity);
+        } else if (queue.size() >= options.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+                storeNow(key, authorizationIdentity);
+            }
+        }
+    }
+
+    @Override
+    public AuthorizationIdentity retrieve(String ticket) {
+        AuthorizationIdentity authorizationIdentity = pending.get(ticket);
+        if (authorizationIdentity != null) {
+            return authorizationIdentity;
+        }
+        return delegate.retrieve(ticket);
+    }
+
+    @Override
+    public void remove(String key) {
+        writeLock.lock();
+        try {
+            pending.remove(key);
+            delegate.remove(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 获取尚未写入的票据数量
+     *
+     * @return 返回待写数量
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 将队列中的票据全部写入实际存储
+     */
+    public void flush() {
+        flushRequested.set(false);
+        List<AuthorizationIdentity> batch = new ArrayList<>(options.getBatchSize());
+        while (queue.drainTo(batch, options.getBatchSize()) > 0) {
+            if (!writeBatch(batch)) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 停止后台刷新并同步写入剩余票据，之后的存储请求将同步写入
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("write-behind flush thread did not terminate in {} seconds", CLOSE_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 调用方线程同步写入
+     */
+    private void storeNow(String key, AuthorizationIdentity authorizationIdentity) {
+        writeLock.lock();
+        try {
+            if (pending.remove(key, authorizationIdentity)) {
+                delegate.store(authorizationIdentity);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 写入一批票据，同一身份只写入最新的票据，已被移除或覆盖的票据将被跳过
+     *
+     * @param batch 待写票据
+     * @return 写入成功返回true
+     */
+    private boolean writeBatch(List<AuthorizationIdentity> batch) {
+        writeLock.lock();
+        try {
+            Map<String, AuthorizationIdentity> current = new LinkedHashMap<>(batch.size());
+            for (AuthorizationIdentity authorizationIdentity : batch) {
+                String key = authorizationIdentity.getIdentity().toString();
+                if (pending.get(key) == authorizationIdentity) {
+                    current.put(key, authorizationIdentity);
+                }
+            }
+            if (current.isEmpty()) {
+                return true;
+            }
+
+            try {
+                delegate.storeAll(current.values());
+            } catch (RuntimeException e) {
+                log.error("write-behind batch of {} tickets failed, will retry on next flush", current.size(), e);
+                current.forEach((key, authorizationIdentity) -> {
+                    if (!queue.offer(authorizationIdentity)) {
+                        log.error("write-behind queue is full, ticket of identity {} is discarded", key);
+                        pending.remove(key, authorizationIdentity);
+                    }
+                });
+                return false;
+            }
+
+            current.forEach(pending::remove);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
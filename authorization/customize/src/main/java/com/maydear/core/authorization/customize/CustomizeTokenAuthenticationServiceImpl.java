@@ -16,10 +16,13 @@
 package com.maydear.core.authorization.customize;
 
 import com.maydear.core.authorization.*;
+import com.maydear.core.framework.id.IdGenerator;
 
 import javax.annotation.PostConstruct;
 import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,10 +35,37 @@ public class CustomizeTokenAuthenticationServiceImpl implements AuthenticationSe
 
     private TicketStore ticketStore;
 
+    /**
+     * 票据id生成器，为空时使用随机UUID
+     */
+    private IdGenerator ticketIdGenerator;
+
     public CustomizeTokenAuthenticationServiceImpl(TicketStore ticketStore) {
         this.ticketStore = ticketStore;
     }
 
+    /**
+     * @param ticketStore       票据存储
+     * @param ticketIdGenerator 票据id生成器，见{@link CustomizeTokenTicket#newInstance(String, IdGenerator)}
+     */
+    public CustomizeTokenAuthenticationServiceImpl(TicketStore ticketStore, IdGenerator ticketIdGenerator) {
+        this.ticketStore = ticketStore;
+        this.ticketIdGenerator = ticketIdGenerator;
+    }
+
+    /**
+     * 构造新的访问令牌票据
+     *
+     * @param identity 身份标识
+     * @return 返回访问令牌票据实体
+     */
+    private CustomizeTokenTicket newTicket(Serializable identity) {
+        if (ticketIdGenerator == null) {
+            return CustomizeTokenTicket.newInstance(identity.toString());
+        }
+        return CustomizeTokenTicket.newInstance(identity.toString(), ticketIdGenerator);
+    }
+
     /**
      * 认证架构
      *
@@ -56,12 +86,32 @@ public class CustomizeTokenAuthenticationServiceImpl implements AuthenticationSe
      */
     @Override
     public String signIn(Serializable identity, List<AuthorizationIdentityRole> roles, Object payload) {
-        CustomizeTokenTicket customizeTokenTicket = CustomizeTokenTicket.newInstance(identity.toString());
+        CustomizeTokenTicket customizeTokenTicket = newTicket(identity);
         AuthorizationIdentity authorizationIdentity = customizeTokenTicket.buildAuthorizationIdentity(roles, payload);
         ticketStore.store(authorizationIdentity);
         return MessageFormat.format("{0} {1}", getScheme(), authorizationIdentity.getTicket());
     }
 
+    /**
+     * 批量登录，通过{@link TicketStore#storeAll(Collection)}批量存储
+     *
+     * @param authorizationIdentities 待登录的授权书身份标识
+     * @return 按输入顺序返回认证票据
+     */
+    @Override
+    public List<String> signInAll(Collection<AuthorizationIdentity> authorizationIdentities) {
+        List<AuthorizationIdentity> signedIdentities = new ArrayList<>(authorizationIdentities.size());
+        List<String> tickets = new ArrayList<>(authorizationIdentities.size());
+        for (AuthorizationIdentity identity : authorizationIdentities) {
+            CustomizeTokenTicket customizeTokenTicket = newTicket(identity.getIdentity());
+            AuthorizationIdentity authorizationIdentity = customizeTokenTicket.buildAuthorizationIdentity(identity.getRoles(), identity.getPayload());
+            signedIdentities.add(authorizationIdentity);
+            tickets.add(MessageFormat.format("{0} {1}", getScheme(), authorizationIdentity.getTicket()));
+        }
+        ticketStore.storeAll(signedIdentities);
+        return tickets;
+    }
+
     /**
      * 登出指定用户
      *
@@ -18,6 +18,7 @@ package com.maydear.core.authorization.customize;
 import com.maydear.core.authorization.AuthorizationIdentity;
 import com.maydear.core.authorization.AuthorizationIdentityRole;
 import com.maydear.core.framework.exception.EncryptionErrorException;
+import com.maydear.core.framework.id.IdGenerator;
 import com.maydear.core.framework.util.DateTimeUtils;
 import com.maydear.core.framework.util.StringSecurityUtils;
 import com.maydear.core.framework.util.UUIDUtils;
@@ -81,6 +82,21 @@ public class CustomizeTokenTicket {
      */
     private static final int TOKEN_TICKET_ISSUED_UTC_VALUE_INDEX = 2;
 
+    /**
+     * AES-128密钥长度
+     */
+    private static final int AES_128_KEY_LENGTH = 16;
+
+    /**
+     * AES-192密钥长度
+     */
+    private static final int AES_192_KEY_LENGTH = 24;
+
+    /**
+     * AES-256密钥长度
+     */
+    private static final int AES_256_KEY_LENGTH = 32;
+
     /**
      * 身份标识
      */
@@ -224,7 +240,47 @@ public class CustomizeTokenTicket {
      * @return 返回访问令牌票据实体
      */
     public static CustomizeTokenTicket newInstance(String identity) {
-        String ticketId = UUIDUtils.generateNoUnderline();
+        return newInstance(identity, UUIDUtils.generateNoUnderline());
+    }
+
+    /**
+     * 使用指定的标识生成器构造新对象
+     * <p>
+     * 票据id同时作为AES密钥且以明文附在票据中，生成器产生的标识长度必须为16、24或32，并且完全随机，如{@link com.maydear.core.framework.id.RandomUuidGenerator#INSTANCE}；
+     * 含时间戳或序号的标识（如UUIDv7、ULID、雪花算法）会降低密钥强度，不可使用。
+     * </p>
+     *
+     * @param identity          身份标识
+     * @param ticketIdGenerator 票据id生成器
+     * @return 返回访问令牌票据实体
+     */
+    public static CustomizeTokenTicket newInstance(String identity, IdGenerator ticketIdGenerator) {
+        String ticketId = ticketIdGenerator.generate();
+        if (!isValidTicketId(ticketId)) {
+            throw new IllegalArgumentException("ticket id length must be 16, 24 or 32");
+        }
+        return newInstance(identity, ticketId);
+    }
+
+    /**
+     * 票据id长度须满足AES密钥长度
+     *
+     * @param ticketId 票据id
+     * @return 合法返回true
+     */
+    private static boolean isValidTicketId(String ticketId) {
+        int length = StringUtils.length(ticketId);
+        return length == AES_128_KEY_LENGTH || length == AES_192_KEY_LENGTH || length == AES_256_KEY_LENGTH;
+    }
+
+    /**
+     * 构造新对象
+     *
+     * @param identity 身份标识
+     * @param ticketId 票据id
+     * @return 返回访问令牌票据实体
+     */
+    private static CustomizeTokenTicket newInstance(String identity, String ticketId) {
         LocalDateTime nowDateTimeUtc = LocalDateTime.now(ZoneOffset.UTC);
         CustomizeTokenTicket customizeTokenTicket = new CustomizeTokenTicket();
         customizeTokenTicket.setIdentity(identity);
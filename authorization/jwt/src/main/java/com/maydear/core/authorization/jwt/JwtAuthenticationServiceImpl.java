@@ -16,10 +16,13 @@
 package com.maydear.core.authorization.jwt;
 
 import com.maydear.core.authorization.*;
+import com.maydear.core.authorization.jwt.util.JwtTokenUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -47,6 +50,7 @@ public class JwtAuthenticationServiceImpl implements AuthenticationService {
      */
     public JwtAuthenticationServiceImpl(JwtOptions options, TicketStore ticketStore) {
         this.options = options;
+        this.ticketStore = ticketStore;
     }
 
     /**
@@ -70,8 +74,34 @@ public class JwtAuthenticationServiceImpl implements AuthenticationService {
     @Override
     public String signIn(Serializable identity, List<AuthorizationIdentityRole> roles, Object payload) {
         JwtTicket jwtTicket = new JwtTicket(identity.toString(), roles, payload);
-        ticketStore.store(jwtTicket.buildAuthorizationIdentity(options));
-        return MessageFormat.format("{0} {1}", getScheme(), jwtTicket.generateAuthorizationTicketValue(options));
+        AuthorizationIdentity authorizationIdentity = jwtTicket.buildAuthorizationIdentity(options);
+        ticketStore.store(authorizationIdentity);
+        return MessageFormat.format("{0} {1}", getScheme(), authorizationIdentity.getTicket());
+    }
+
+    /**
+     * 批量登录，整批共用签名算法与序列化器，并通过{@link TicketStore#storeAll(Collection)}批量存储
+     *
+     * @param authorizationIdentities 待登录的授权书身份标识
+     * @return 按输入顺序返回认证票据
+     */
+    @Override
+    public List<String> signInAll(Collection<AuthorizationIdentity> authorizationIdentities) {
+        List<JwtTicket> jwtTickets = new ArrayList<>(authorizationIdentities.size());
+        for (AuthorizationIdentity authorizationIdentity : authorizationIdentities) {
+            Collection<AuthorizationIdentityRole> roles = authorizationIdentity.getRoles();
+            jwtTickets.add(new JwtTicket(authorizationIdentity.getIdentity().toString(), roles == null ? null : new ArrayList<>(roles), authorizationIdentity.getPayload()));
+        }
+
+        List<String> ticketValues = JwtTokenUtils.encodeAll(jwtTickets, options);
+        List<AuthorizationIdentity> signedIdentities = new ArrayList<>(jwtTickets.size());
+        List<String> tickets = new ArrayList<>(jwtTickets.size());
+        for (int i = 0; i < jwtTickets.size(); i++) {
+            signedIdentities.add(jwtTickets.get(i).buildAuthorizationIdentity(ticketValues.get(i)));
+            tickets.add(MessageFormat.format("{0} {1}", getScheme(), ticketValues.get(i)));
+        }
+        ticketStore.storeAll(signedIdentities);
+        return tickets;
     }
 
     /**
@@ -21,7 +21,7 @@ import com.maydear.core.authorization.AuthorizationService;
 import com.maydear.core.authorization.TicketStore;
 import com.maydear.core.authorization.jwt.util.JwtTokenUtils;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
 import java.text.MessageFormat;
@@ -62,10 +62,10 @@ public class JwtAuthorizationServiceImpl implements AuthorizationService {
 
     @Override
     public AuthorizationIdentity getAuthorizationIdentity(String ticket) {
-        JwtTicket jwtTicket = JwtTokenUtils.decode(ticket, options);
-        if (ObjectUtils.isEmpty(jwtTicket)) {
+        String identity = JwtTokenUtils.verify(ticket, options);
+        if (StringUtils.isEmpty(identity)) {
             return null;
         }
-        return ticketStore.retrieve(ticket);
+        return ticketStore.retrieve(identity);
     }
 }
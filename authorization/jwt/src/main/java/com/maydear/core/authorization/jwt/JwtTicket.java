@@ -79,13 +79,23 @@ public class JwtTicket implements Serializable {
     }
 
     /**
-     * 构造授权书身份标识
+     * 构造授权书身份标识，票据只编码一次
      *
      * @return 返回授权书身份标识
      */
     public AuthorizationIdentity buildAuthorizationIdentity(JwtOptions jwtOptions) {
+        return buildAuthorizationIdentity(generateAuthorizationTicketValue(jwtOptions));
+    }
+
+    /**
+     * 使用已编码的票据值构造授权书身份标识
+     *
+     * @param ticketValue 票据值
+     * @return 返回授权书身份标识
+     */
+    public AuthorizationIdentity buildAuthorizationIdentity(String ticketValue) {
         return AuthorizationIdentity.builder()
-            .ticket(generateAuthorizationTicketValue(jwtOptions))
+            .ticket(ticketValue)
             .identity(identity)
             .payload(payload)
             .roles(roles)
@@ -21,6 +21,8 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.maydear.core.authorization.exception.AuthorizationFailedException;
 import com.maydear.core.authorization.exception.VerificationFailedException;
 import com.maydear.core.authorization.jwt.JwtOptions;
@@ -34,7 +36,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 /**
  * jwt令牌工具类
@@ -62,53 +67,100 @@ public class JwtTokenUtils {
      * @return JWT Token
      */
     public static String encode(JwtTicket jwtTicket, JwtOptions options) {
-        return encodeAsString(jwtTicket.getIdentity(), JsonMapper.INSTANCE.toJson(jwtTicket), options);
+        return encodeAsString(jwtTicket.getIdentity(), JsonMapper.INSTANCE.toJson(jwtTicket), EncodeSettings.of(options), System.currentTimeMillis());
     }
 
     /**
-     * 生成指定类型的 Token
+     * 批量生成 JWT Token 对象，整批共用签名算法、序列化器以及发行时间
      *
-     * @param jwtId   ID
-     * @param subject Subject
-     * @return JWT Token
+     * @param jwtTickets jwt票据集合
+     * @param options    jwt选项
+     * @return 按输入顺序返回 JWT Token
      */
-    private static String encodeAsString(String jwtId, String subject, JwtOptions options) {
-
-        // 证书
-        String secret = JwtOptions.DEFAULT_SECRET;
-
-        //发行方
-        String issuer = JwtOptions.DEFAULT_ISSUER;
-
-        //失效时间(秒)
-        long expired = JwtOptions.DEFAULT_EXPIRED;
-
-        //配置数据
-        if (ObjectUtils.isNotEmpty(options)) {
-            if (ObjectUtils.isNotEmpty(options.getExpired()) && options.getExpired() > 0) {
-                expired = options.getExpired();
-            }
-            if (StringUtils.isNotBlank(options.getIssuer())) {
-                issuer = options.getIssuer();
-            }
-            if (StringUtils.isNotBlank(options.getSecret())) {
-                secret = options.getSecret();
+    public static List<String> encodeAll(Collection<JwtTicket> jwtTickets, JwtOptions options) {
+        EncodeSettings settings = EncodeSettings.of(options);
+        ObjectWriter writer = JsonMapper.INSTANCE.getWriter(JwtTicket.class);
+        long issuedMillis = System.currentTimeMillis();
+        List<String> tokens = new ArrayList<>(jwtTickets.size());
+        for (JwtTicket jwtTicket : jwtTickets) {
+            try {
+                tokens.add(encodeAsString(jwtTicket.getIdentity(), writer.writeValueAsString(jwtTicket), settings, issuedMillis));
+            } catch (JsonProcessingException e) {
+                throw new AuthorizationFailedException(e);
             }
         }
+        return tokens;
+    }
 
-        //发行时间(毫秒)
-        long issuedMillis = System.currentTimeMillis();
-
-        //到期时间(毫秒)
-        long expiredMillis = System.currentTimeMillis() + expired * 1000;
-
+    /**
+     * 生成指定类型的 Token
+     *
+     * @param jwtId        ID
+     * @param subject      Subject
+     * @param settings     签名配置
+     * @param issuedMillis 发行时间(毫秒)
+     * @return JWT Token
+     */
+    private static String encodeAsString(String jwtId, String subject, EncodeSettings settings, long issuedMillis) {
         return JWT.create()
                 .withJWTId(jwtId)
                 .withSubject(subject)
-                .withIssuer(issuer)
+                .withIssuer(settings.issuer)
                 .withIssuedAt(new Date(issuedMillis))
-                .withExpiresAt(new Date(expiredMillis))
-                .sign(Algorithm.HMAC256(secret));
+                .withExpiresAt(new Date(issuedMillis + settings.expired * 1000))
+                .sign(settings.algorithm);
+    }
+
+    /**
+     * 由选项解析出的签名配置
+     */
+    private static final class EncodeSettings {
+
+        /**
+         * 发行方
+         */
+        private final String issuer;
+
+        /**
+         * 失效时间(秒)
+         */
+        private final long expired;
+
+        /**
+         * 签名算法
+         */
+        private final Algorithm algorithm;
+
+        private EncodeSettings(String issuer, long expired, Algorithm algorithm) {
+            this.issuer = issuer;
+            this.expired = expired;
+            this.algorithm = algorithm;
+        }
+
+        private static EncodeSettings of(JwtOptions options) {
+            // 证书
+            String secret = JwtOptions.DEFAULT_SECRET;
+
+            //发行方
+            String issuer = JwtOptions.DEFAULT_ISSUER;
+
+            //失效时间(秒)
+            long expired = JwtOptions.DEFAULT_EXPIRED;
+
+            //配置数据
+            if (ObjectUtils.isNotEmpty(options)) {
+                if (ObjectUtils.isNotEmpty(options.getExpired()) && options.getExpired() > 0) {
+                    expired = options.getExpired();
+                }
+                if (StringUtils.isNotBlank(options.getIssuer())) {
+                    issuer = options.getIssuer();
+                }
+                if (StringUtils.isNotBlank(options.getSecret())) {
+                    secret = options.getSecret();
+                }
+            }
+            return new EncodeSettings(issuer, expired, Algorithm.HMAC256(secret));
+        }
     }
 
 
@@ -118,7 +170,28 @@ public class JwtTokenUtils {
      * @return 解密后的 JWT Token
      */
     public static JwtTicket decode(String token, JwtOptions options) {
-        JwtTicket jwtTicket = null;
+        String jsonString = verifyToken(token, options).getSubject();
+        logger.debug("subject: {}", jsonString);
+        return JsonMapper.INSTANCE.fromJson(jsonString, JwtTicket.class);
+    }
+
+    /**
+     * 只验证 Token 并返回身份标识，不解析主题中的载荷信息
+     *
+     * @param token   JWT Token
+     * @param options jwt选项
+     * @return 返回身份标识
+     */
+    public static String verify(String token, JwtOptions options) {
+        return verifyToken(token, options).getId();
+    }
+
+    /**
+     * 验证 Token
+     *
+     * @return 返回验证通过的 JWT Token
+     */
+    private static DecodedJWT verifyToken(String token, JwtOptions options) {
         // 证书
         String secret = JwtOptions.DEFAULT_SECRET;
         //配置数据
@@ -127,18 +200,16 @@ public class JwtTokenUtils {
         }
         try {
             DecodedJWT decoded = JWT.decode(token);
-            LocalDateTime issueAt = DateExtensionUtils.dateToLocalDateTime(decoded.getIssuedAt());
-            logger.debug("Token issueAt: {}", issueAt);
-            LocalDateTime expiredAt = DateExtensionUtils.dateToLocalDateTime(decoded.getExpiresAt());
-            logger.debug("Token expiredAt: {}", expiredAt);
+            if (logger.isDebugEnabled()) {
+                LocalDateTime issueAt = DateExtensionUtils.dateToLocalDateTime(decoded.getIssuedAt());
+                logger.debug("Token issueAt: {}", issueAt);
+                LocalDateTime expiredAt = DateExtensionUtils.dateToLocalDateTime(decoded.getExpiresAt());
+                logger.debug("Token expiredAt: {}", expiredAt);
+            }
 
             Algorithm algorithm = Algorithm.HMAC256(secret);
             JWTVerifier verifier = JWT.require(algorithm).build();
-            verifier.verify(decoded);
-            String jsonString = decoded.getSubject();
-            logger.debug("subject: {}", jsonString);
-            jwtTicket = JsonMapper.INSTANCE.fromJson(jsonString, JwtTicket.class);
-            return jwtTicket;
+            return verifier.verify(decoded);
         } catch (TokenExpiredException e) {
             throw new AuthorizedExpiredException();
         } catch (NullPointerException | IllegalArgumentException e) {
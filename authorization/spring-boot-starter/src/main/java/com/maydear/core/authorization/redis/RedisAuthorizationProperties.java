@@ -16,6 +16,7 @@
 package com.maydear.core.authorization.redis;
 
 import com.maydear.core.authorization.AuthorizationProperties;
+import com.maydear.core.authorization.store.WriteBehindOptions;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
@@ -76,6 +77,17 @@ public class RedisAuthorizationProperties extends AuthorizationProperties {
 
     private final Lettuce lettuce = new Lettuce();
 
+    /**
+     * Whether ticket payloads are stored serialized and only deserialized on first
+     * access after a retrieve.
+     */
+    private boolean lazyPayload = false;
+
+    /**
+     * Write-behind ticket persistence.
+     */
+    private final WriteBehind writeBehind = new WriteBehind();
+
     public int getDatabase() {
         return this.database;
     }
@@ -160,6 +172,18 @@ public class RedisAuthorizationProperties extends AuthorizationProperties {
         return this.lettuce;
     }
 
+    public boolean isLazyPayload() {
+        return this.lazyPayload;
+    }
+
+    public void setLazyPayload(boolean lazyPayload) {
+        this.lazyPayload = lazyPayload;
+    }
+
+    public WriteBehind getWriteBehind() {
+        return this.writeBehind;
+    }
+
     /**
      * Pool properties.
      */
@@ -340,4 +364,77 @@ public class RedisAuthorizationProperties extends AuthorizationProperties {
 
     }
 
+    /**
+     * Write-behind ticket persistence properties.
+     */
+    public static class WriteBehind {
+
+        /**
+         * Whether sign-in returns before the ticket is written to redis. Tickets are
+         * queued and written in pipelined batches by a background thread.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of tickets waiting to be written.
+         */
+        private int queueCapacity = WriteBehindOptions.DEFAULT_QUEUE_CAPACITY;
+
+        /**
+         * Maximum number of tickets written in one pipeline.
+         */
+        private int batchSize = WriteBehindOptions.DEFAULT_BATCH_SIZE;
+
+        /**
+         * Interval between background flushes.
+         */
+        private Duration flushInterval = WriteBehindOptions.DEFAULT_FLUSH_INTERVAL;
+
+        /**
+         * Maximum time sign-in waits for queue space before writing synchronously.
+         */
+        private Duration offerTimeout = WriteBehindOptions.DEFAULT_OFFER_TIMEOUT;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return this.queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return this.batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getFlushInterval() {
+            return this.flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public Duration getOfferTimeout() {
+            return this.offerTimeout;
+        }
+
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+
+    }
+
 }
@@ -17,6 +17,8 @@ package com.maydear.core.authorization.redis;
 
 import com.maydear.core.authorization.AuthorizationIdentity;
 import com.maydear.core.authorization.TicketStore;
+import com.maydear.core.authorization.store.WriteBehindOptions;
+import com.maydear.core.authorization.store.WriteBehindTicketStore;
 import com.maydear.core.authorization.store.redis.RedisAuthorizationOptions;
 import com.maydear.core.authorization.store.redis.TicketStoreRedisImpl;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -53,6 +55,7 @@ public class RedisTicketStoreAutoConfiguration {
     public RedisAuthorizationOptions redisAuthorizationOptions(RedisAuthorizationProperties properties) {
         RedisAuthorizationOptions options = new RedisAuthorizationOptions();
         options.setExpired(properties.getExpired());
+        options.setLazyPayload(properties.isLazyPayload());
         return options;
     }
 
@@ -63,8 +66,19 @@ public class RedisTicketStoreAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean(TicketStore.class)
-    public TicketStore accessTokenStore(RedisTemplate<String, AuthorizationIdentity> redisTemplate, RedisAuthorizationOptions redisAuthorizationOptions) {
-        return new TicketStoreRedisImpl(redisTemplate, redisAuthorizationOptions);
+    public TicketStore accessTokenStore(RedisTemplate<String, AuthorizationIdentity> redisTemplate, RedisAuthorizationOptions redisAuthorizationOptions, RedisAuthorizationProperties properties) {
+        TicketStore ticketStore = new TicketStoreRedisImpl(redisTemplate, redisAuthorizationOptions);
+        RedisAuthorizationProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        if (!writeBehind.isEnabled()) {
+            return ticketStore;
+        }
+
+        WriteBehindOptions options = new WriteBehindOptions();
+        options.setQueueCapacity(writeBehind.getQueueCapacity());
+        options.setBatchSize(writeBehind.getBatchSize());
+        options.setFlushInterval(writeBehind.getFlushInterval());
+        options.setOfferTimeout(writeBehind.getOfferTimeout());
+        return new WriteBehindTicketStore(ticketStore, options);
     }
 
     @Bean
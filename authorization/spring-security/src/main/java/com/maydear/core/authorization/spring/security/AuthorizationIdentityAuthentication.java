@@ -82,6 +82,17 @@ public class AuthorizationIdentityAuthentication implements Authentication {
         return authorizationIdentity.getPayload();
     }
 
+    /**
+     * 获取指定类型的载荷信息，延迟载荷只在访问时解析
+     *
+     * @param clazz 载荷类型
+     * @param <T>   载荷泛型
+     * @return 返回载荷信息
+     */
+    public <T> T getDetails(Class<T> clazz) {
+        return authorizationIdentity.getPayload(clazz);
+    }
+
     /**
      * The identity of the principal being authenticated. In the case of an authentication
      * request with username and password, this would be the username. Callers are
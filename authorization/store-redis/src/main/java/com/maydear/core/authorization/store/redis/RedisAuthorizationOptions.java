@@ -30,4 +30,14 @@ import java.io.Serializable;
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class RedisAuthorizationOptions extends AbstractAuthorizationOptions implements Serializable {
+
+    /**
+     * 默认不延迟解析载荷信息
+     */
+    public static final boolean DEFAULT_LAZY_PAYLOAD = false;
+
+    /**
+     * 是否以{@link com.maydear.core.authorization.LazyPayload}存储载荷信息，取回时不立即解析
+     */
+    private boolean lazyPayload = DEFAULT_LAZY_PAYLOAD;
 }
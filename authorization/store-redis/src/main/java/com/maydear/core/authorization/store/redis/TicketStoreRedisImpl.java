@@ -18,8 +18,13 @@ package com.maydear.core.authorization.store.redis;
 import com.maydear.core.authorization.AuthorizationIdentity;
 import com.maydear.core.authorization.TicketStore;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -40,7 +45,30 @@ public class TicketStoreRedisImpl implements TicketStore {
 
     @Override
     public void store(AuthorizationIdentity authorizationIdentity) {
-        cache.boundValueOps(authorizationIdentity.getIdentity().toString()).set(authorizationIdentity, options.getExpired(), TimeUnit.SECONDS);
+        cache.boundValueOps(authorizationIdentity.getIdentity().toString()).set(prepare(authorizationIdentity), options.getExpired(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * 通过管道批量写入，整批只产生一次网络往返
+     *
+     * @param authorizationIdentities 授权书身份标识集合
+     */
+    @Override
+    public void storeAll(Collection<AuthorizationIdentity> authorizationIdentities) {
+        if (authorizationIdentities.isEmpty()) {
+            return;
+        }
+        cache.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(@NonNull RedisOperations<K, V> operations) {
+                ValueOperations<String, AuthorizationIdentity> valueOperations = ((RedisOperations<String, AuthorizationIdentity>) operations).opsForValue();
+                for (AuthorizationIdentity authorizationIdentity : authorizationIdentities) {
+                    valueOperations.set(authorizationIdentity.getIdentity().toString(), prepare(authorizationIdentity), options.getExpired(), TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        });
     }
 
     @Override
@@ -56,4 +84,14 @@ public class TicketStoreRedisImpl implements TicketStore {
     public void remove(String key) {
         cache.delete(key);
     }
+
+    /**
+     * 开启延迟载荷时将载荷信息转为延迟载荷
+     *
+     * @param authorizationIdentity 授权书身份标识
+     * @return 返回写入缓存的授权书身份标识
+     */
+    private AuthorizationIdentity prepare(AuthorizationIdentity authorizationIdentity) {
+        return options.isLazyPayload() ? authorizationIdentity.withLazyPayload() : authorizationIdentity;
+    }
 }
@@ -16,13 +16,16 @@
 package com.maydear.core.data.mybatisplus.config;
 
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
+import com.maydear.core.framework.id.IdGenerator;
+import com.maydear.core.framework.id.RandomUuidGenerator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.ibatis.reflection.MetaObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 拦截处理元数据
@@ -36,13 +39,28 @@ public class MyMetaObjectHandler implements MetaObjectHandler {
     private static final String CREATE_TIME_FIELD_NAME = "createTime";
     private static final String MODIFY_TIME_FIELD_NAME = "modifyTime";
 
+    /**
+     * UID生成器，默认为带连字符的随机UUID
+     */
+    private IdGenerator uidGenerator = RandomUuidGenerator.DASHED;
+
+    /**
+     * 设置UID生成器，容器中存在名为uidGenerator的{@link IdGenerator}时自动注入，如{@link com.maydear.core.framework.id.UuidV7Generator#DASHED}可使主键按时间有序
+     *
+     * @param uidGenerator UID生成器
+     */
+    @Autowired(required = false)
+    public void setUidGenerator(@Qualifier("uidGenerator") IdGenerator uidGenerator) {
+        this.uidGenerator = uidGenerator;
+    }
+
     @Override
     public void insertFill(MetaObject metaObject) {
         LocalDateTime now = LocalDateTime.now();
 
         //填充UID字段
-        if (metaObject.hasGetter(UID_FIELD_NAME)) {
-            fieldFill(metaObject, UID_FIELD_NAME, UUID.randomUUID().toString());
+        if (metaObject.hasGetter(UID_FIELD_NAME) && ObjectUtils.isEmpty(this.getFieldValByName(UID_FIELD_NAME, metaObject))) {
+            this.setFieldValByName(UID_FIELD_NAME, uidGenerator.generate(), metaObject);
         }
         //填充创建时间(createTime)字段
         if (metaObject.hasGetter(CREATE_TIME_FIELD_NAME)) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.benchmarks;
+
+import com.maydear.core.framework.JsonConverter;
+import com.maydear.core.framework.PackageObject;
+import com.maydear.core.framework.PackageObjectBuilder;
+import com.maydear.core.framework.PageList;
+import com.maydear.core.framework.jackson.CborConverterImpl;
+import com.maydear.core.framework.jackson.JsonConverterImpl;
+import com.maydear.core.framework.jackson.SmileConverterImpl;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * json、Smile、CBOR编码及解码基准
+ * <p>
+ * 以包含分页记录的统一包裹对象作为载荷，各格式的编码字节数由{@link #payloadSize(Payload)}的payloadBytes计数器报告。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryJsonConverterBenchmark {
+
+    /**
+     * 分页记录数
+     */
+    private static final int RECORD_COUNT = 100;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private JsonConverter converter;
+
+    private PackageObject packageObject;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        switch (format) {
+            case "smile":
+                converter = new SmileConverterImpl();
+                break;
+            case "cbor":
+                converter = new CborConverterImpl();
+                break;
+            default:
+                converter = new JsonConverterImpl();
+                break;
+        }
+
+        List<Record> records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(newRecord(i));
+        }
+        packageObject = PackageObjectBuilder.getPackageObject(new PageList<>(RECORD_COUNT, 1, 10000L, records), UUID.randomUUID());
+        content = converter.toJsonBytes(packageObject);
+    }
+
+    private static Record newRecord(int index) {
+        Record record = new Record();
+        record.setUserId(10000000L + index);
+        record.setUserName("benchmark" + index);
+        record.setNickName("基准测试用户" + index);
+        record.setBalance(new BigDecimal("1024.50"));
+        record.setEnabled(index % 2 == 0);
+        record.setCreateTime(LocalDateTime.of(2021, 1, 1, 0, 0));
+        return record;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return converter.toJsonBytes(packageObject);
+    }
+
+    @Benchmark
+    public PackageObject decode() {
+        return converter.deserializa(content, PackageObject.class);
+    }
+
+    /**
+     * 编码一次并报告载荷字节数，事件计数器按迭代累加，故只执行单次
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] payloadSize(Payload payload) {
+        byte[] bytes = converter.toJsonBytes(packageObject);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    /**
+     * 载荷字节数计数器
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+    }
+
+    /**
+     * 分页记录
+     */
+    @Data
+    public static class Record implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long userId;
+
+        private String userName;
+
+        private String nickName;
+
+        private BigDecimal balance;
+
+        private Boolean enabled;
+
+        private LocalDateTime createTime;
+    }
+}
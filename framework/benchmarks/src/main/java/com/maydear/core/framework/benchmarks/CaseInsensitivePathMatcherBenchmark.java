@@ -0,0 +1,110 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.benchmarks;
+
+import com.maydear.core.framework.spring.web.util.CaseInsensitivePathMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大小写不敏感的路由匹配基准
+ * <p>
+ * 模拟请求路径与路由大小写不一致、无法直接命中时，与2000个路由模式逐一匹配的开销；
+ * legacy前缀的基准使用改造前大小写不敏感的AntPathMatcher，作为对照组。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseInsensitivePathMatcherBenchmark {
+
+    /**
+     * 路由数量
+     */
+    private static final int MAPPING_COUNT = 2000;
+
+    /**
+     * 每个模块的资源数量
+     */
+    private static final int RESOURCE_COUNT = 20;
+
+    /**
+     * 轮流使用的请求路径数量
+     */
+    private static final int PATH_COUNT = 64;
+
+    private List<String> patterns;
+
+    private String[] paths;
+
+    private int pathIndex;
+
+    private PathMatcher pathMatcher;
+
+    private PathMatcher antPathMatcher;
+
+    @Setup
+    public void setup() {
+        patterns = new ArrayList<>(MAPPING_COUNT);
+        for (int i = 0; i < MAPPING_COUNT; i++) {
+            patterns.add("/api/v1/module" + (i / RESOURCE_COUNT) + "/Resource" + (i % RESOURCE_COUNT) + "/{id}");
+        }
+        paths = new String[PATH_COUNT];
+        for (int i = 0; i < PATH_COUNT; i++) {
+            int mapping = MAPPING_COUNT - 1 - i * 7;
+            paths[i] = "/API/V1/MODULE" + (mapping / RESOURCE_COUNT) + "/resource" + (mapping % RESOURCE_COUNT) + "/" + (10000 + i);
+        }
+        pathMatcher = new CaseInsensitivePathMatcher();
+        AntPathMatcher matcher = new AntPathMatcher();
+        matcher.setCaseSensitive(false);
+        antPathMatcher = matcher;
+    }
+
+    @Benchmark
+    public int match() {
+        return lookup(pathMatcher);
+    }
+
+    @Benchmark
+    public int legacyMatch() {
+        return lookup(antPathMatcher);
+    }
+
+    /**
+     * 与全部路由逐一匹配，每次请求使用新的路径字符串
+     */
+    private int lookup(PathMatcher matcher) {
+        String path = new String(paths[pathIndex++ & (PATH_COUNT - 1)]);
+        int matches = 0;
+        for (String pattern : patterns) {
+            if (matcher.match(pattern, path)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.maydear.core.framework.jackson.mapper.JsonMapper;
+import com.maydear.core.framework.jackson.serializer.Decimal2Serializer;
+import com.maydear.core.framework.jackson.serializer.Decimal4Serializer;
+import com.maydear.core.framework.jackson.serializer.LocalDateSerializer;
+import com.maydear.core.framework.jackson.serializer.ObjectToStringSerializer;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 数值报表序列化基准
+ * <p>
+ * 报表行包含长整型标识、日期及2位、4位小数的金额；legacy前缀的基准使用改造前的序列化器（每次构造格式化器、每次setScale、
+ * 长整型经toString），作为对照组；由BenchmarkRunner挂载的GC分析器输出的gc.alloc.rate.norm对比每次操作的分配字节数。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonSerializerBenchmark {
+
+    /**
+     * 报表行数
+     */
+    private static final int ROW_COUNT = 10000;
+
+    private JsonMapper jsonMapper;
+
+    private List<ReportRow> rows;
+
+    private List<LegacyReportRow> legacyRows;
+
+    @Setup
+    public void setup() {
+        jsonMapper = new JsonMapper();
+        rows = new ArrayList<>(ROW_COUNT);
+        legacyRows = new ArrayList<>(ROW_COUNT);
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            long id = 1350000000000000000L + i;
+            LocalDate date = start.plusDays(i % 365);
+            // 金额大多已是目标小数位数，少量需要四舍五入
+            BigDecimal amount = i % 10 == 0 ? BigDecimal.valueOf(i * 7919L, 3) : BigDecimal.valueOf(i * 7919L, 2);
+            BigDecimal rate = BigDecimal.valueOf(i % 10000, 4);
+
+            ReportRow row = new ReportRow();
+            row.setId(id);
+            row.setDate(date);
+            row.setAmount(amount);
+            row.setRate(rate);
+            rows.add(row);
+
+            LegacyReportRow legacyRow = new LegacyReportRow();
+            legacyRow.setId(id);
+            legacyRow.setDate(date);
+            legacyRow.setAmount(amount);
+            legacyRow.setRate(rate);
+            legacyRows.add(legacyRow);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.toJsonBytes(rows);
+    }
+
+    @Benchmark
+    public byte[] legacySerialize() {
+        return jsonMapper.toJsonBytes(legacyRows);
+    }
+
+    /**
+     * 报表行
+     */
+    @Data
+    public static class ReportRow implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @JsonSerialize(using = ObjectToStringSerializer.class)
+        private Long id;
+
+        @JsonSerialize(using = LocalDateSerializer.class)
+        private LocalDate date;
+
+        @JsonSerialize(using = Decimal2Serializer.class)
+        private BigDecimal amount;
+
+        @JsonSerialize(using = Decimal4Serializer.class)
+        private BigDecimal rate;
+    }
+
+    /**
+     * 使用改造前序列化器的报表行
+     */
+    @Data
+    public static class LegacyReportRow implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @JsonSerialize(using = LegacyObjectToStringSerializer.class)
+        private Long id;
+
+        @JsonSerialize(using = LegacyLocalDateSerializer.class)
+        private LocalDate date;
+
+        @JsonSerialize(using = LegacyDecimal2Serializer.class)
+        private BigDecimal amount;
+
+        @JsonSerialize(using = LegacyDecimal4Serializer.class)
+        private BigDecimal rate;
+    }
+
+    public static class LegacyObjectToStringSerializer extends JsonSerializer<Object> {
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(value == null ? "" : value.toString());
+        }
+    }
+
+    public static class LegacyLocalDateSerializer extends JsonSerializer<LocalDate> {
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(value.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        }
+    }
+
+    public static class LegacyDecimal2Serializer extends JsonSerializer<BigDecimal> {
+
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(value.setScale(2, RoundingMode.HALF_UP).toPlainString());
+        }
+    }
+
+    public static class LegacyDecimal4Serializer extends JsonSerializer<BigDecimal> {
+
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(value.setScale(4, RoundingMode.HALF_UP).toPlainString());
+        }
+    }
+}
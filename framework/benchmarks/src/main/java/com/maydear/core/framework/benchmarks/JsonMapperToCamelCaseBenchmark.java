@@ -0,0 +1,159 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.maydear.core.framework.Page;
+import com.maydear.core.framework.PageList;
+import com.maydear.core.framework.jackson.mapper.JsonMapper;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonMapper.toCamelCase基准
+ * <p>
+ * legacy前缀的基准按改造前的写法（先序列化为json文本再解析）实现，作为对照组；
+ * 由BenchmarkRunner挂载的GC分析器输出的gc.alloc.rate.norm对比每次操作的分配字节数。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMapperToCamelCaseBenchmark {
+
+    /**
+     * 列表记录数
+     */
+    private static final int RECORD_COUNT = 100;
+
+    private JsonMapper jsonMapper;
+
+    private UnderscoreRecord record;
+
+    private List<UnderscoreRecord> records;
+
+    private Page<UnderscoreRecord> page;
+
+    @Setup
+    public void setup() {
+        jsonMapper = new JsonMapper();
+        record = newRecord(0);
+        records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(newRecord(i));
+        }
+        page = new PageList<>(RECORD_COUNT, 1, 10000L, records);
+    }
+
+    private static UnderscoreRecord newRecord(int index) {
+        UnderscoreRecord underscoreRecord = new UnderscoreRecord();
+        underscoreRecord.setUserId(10000000L + index);
+        underscoreRecord.setUserName("benchmark" + index);
+        underscoreRecord.setNickName("基准测试用户" + index);
+        underscoreRecord.setBalance(new BigDecimal("1024.50"));
+        underscoreRecord.setCreateTime(LocalDateTime.of(2021, 1, 1, 0, 0));
+        return underscoreRecord;
+    }
+
+    @Benchmark
+    public CamelCaseRecord toCamelCase() {
+        return jsonMapper.toCamelCase(record, CamelCaseRecord.class);
+    }
+
+    @Benchmark
+    public List<CamelCaseRecord> toCamelCaseList() {
+        return jsonMapper.toCamelCaseList(records, CamelCaseRecord.class);
+    }
+
+    @Benchmark
+    public Page<CamelCaseRecord> toCamelCasePage() {
+        return jsonMapper.toCamelCasePage(page, CamelCaseRecord.class);
+    }
+
+    @Benchmark
+    public CamelCaseRecord legacyToCamelCase() {
+        return jsonMapper.fromJson(jsonMapper.toJson(record), CamelCaseRecord.class);
+    }
+
+    @Benchmark
+    public List<CamelCaseRecord> legacyToCamelCaseList() {
+        List<CamelCaseRecord> result = new ArrayList<>(records.size());
+        for (UnderscoreRecord underscoreRecord : records) {
+            result.add(jsonMapper.fromJson(jsonMapper.toJson(underscoreRecord), CamelCaseRecord.class));
+        }
+        return result;
+    }
+
+    /**
+     * 下划线命名的记录
+     */
+    @Data
+    public static class UnderscoreRecord implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @JsonProperty("user_id")
+        private Long userId;
+
+        @JsonProperty("user_name")
+        private String userName;
+
+        @JsonProperty("nick_name")
+        private String nickName;
+
+        private BigDecimal balance;
+
+        @JsonProperty("create_time")
+        private LocalDateTime createTime;
+    }
+
+    /**
+     * 驼峰命名的记录
+     */
+    @Data
+    public static class CamelCaseRecord implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @JsonAlias("user_id")
+        private Long userId;
+
+        @JsonAlias("user_name")
+        private String userName;
+
+        @JsonAlias("nick_name")
+        private String nickName;
+
+        private BigDecimal balance;
+
+        @JsonAlias("create_time")
+        private LocalDateTime createTime;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.benchmarks;
+
+import com.maydear.core.framework.util.CipherMode;
+import com.maydear.core.framework.util.PaddingMode;
+import com.maydear.core.framework.util.StringSecurityUtils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringSecurityUtils单次调用基准
+ * <p>
+ * legacy前缀的基准按改造前的写法（每次注册提供者、每次getInstance、每次构造密钥）实现，作为对照组。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringSecurityUtilsBenchmark {
+
+    private static final String KEY = "0123456789abcdef";
+
+    private String plainText;
+
+    private String cipherText;
+
+    private byte[] keyBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        plainText = "{\"identity\":\"10000001\",\"issuedUtc\":\"2021-01-01T00:00:00\",\"roles\":[\"admin\",\"user\"]}";
+        cipherText = StringSecurityUtils.encryptAesToBase64(plainText, KEY);
+        keyBytes = KEY.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String aesEncrypt() throws Exception {
+        return StringSecurityUtils.encryptAesToBase64(plainText, KEY);
+    }
+
+    @Benchmark
+    public String aesDecrypt() throws Exception {
+        return StringSecurityUtils.decryptAesToString(cipherText, KEY);
+    }
+
+    @Benchmark
+    public byte[] hmacSha256() throws Exception {
+        return StringSecurityUtils.encryptHmacSha256(plainText, keyBytes);
+    }
+
+    @Benchmark
+    public byte[] hmacMd5() throws Exception {
+        return StringSecurityUtils.encryptHmacMd5(plainText, keyBytes);
+    }
+
+    @Benchmark
+    public byte[] sha256() {
+        return StringSecurityUtils.encryptSha256(plainText);
+    }
+
+    @Benchmark
+    public byte[] legacyAesEncrypt() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        SecretKeySpec keySpec = new SecretKeySpec(keyBytes, "AES");
+        Cipher cipher = Cipher.getInstance("AES/" + CipherMode.ECB.getName() + "/" + PaddingMode.PKCS7.getName());
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+        return cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public byte[] legacyHmacSha256() throws Exception {
+        SecretKey secretKey = new SecretKeySpec(keyBytes, StringSecurityUtils.SECRET_KEY_HMACSHA256);
+        Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+        mac.init(secretKey);
+        return mac.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public byte[] legacySha256() throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(plainText.getBytes(StandardCharsets.UTF_8));
+    }
+}
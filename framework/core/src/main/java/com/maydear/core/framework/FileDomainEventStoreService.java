@@ -30,8 +30,10 @@ public class FileDomainEventStoreService implements DomainEventStoreService {
      */
     @Override
     public void saveSource(AbstractDomainEvent domainEvent, Exception exception) {
-        String stringJson = jsonConverter.serializa(domainEvent);
-        log.debug(stringJson);
+        byte[] json = jsonConverter.toJsonBytes(domainEvent);
+        if (log.isDebugEnabled()) {
+            log.debug(new String(json, StandardCharsets.UTF_8));
+        }
         FileSummary fileSummary = FileSummary.builder()
             .tag("FileDomainEventStore")
             .originalFilename(domainEvent.getId().toString() + ".store")
@@ -39,7 +41,7 @@ public class FileDomainEventStoreService implements DomainEventStoreService {
             .contentType("application/json")
             .storageDirectory("store")
             .build();
-        fileStorageInfrastructure.writePersistence(fileSummary, stringJson.getBytes(StandardCharsets.UTF_8));
+        fileStorageInfrastructure.writePersistence(fileSummary, json);
     }
 
     /**
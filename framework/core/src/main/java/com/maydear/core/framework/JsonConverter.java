@@ -15,7 +15,13 @@
  */
 package com.maydear.core.framework;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * JSON转换接口
@@ -50,4 +56,61 @@ public interface JsonConverter {
      * @return 返回指定的对象
      */
     <T> T deserializa(InputStream stream, Class<T> clazz);
+
+    /**
+     * 序列化为UTF-8编码的json
+     * @param object 待序列化的对象
+     * @return 返回json（UTF-8）
+     */
+    default byte[] toJsonBytes(Object object) {
+        String content = serializa(object);
+        return content == null ? null : content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 序列化为UTF-8编码的json并写入输出流，写入完成后不关闭输出流
+     * @param object 待序列化的对象
+     * @param out 输出流
+     * @throws IOException 序列化或写入发生错误时抛出的异常
+     */
+    default void writeTo(Object object, OutputStream out) throws IOException {
+        byte[] content = toJsonBytes(object);
+        if (content == null) {
+            throw new IOException("序列化失败：" + object);
+        }
+        out.write(content);
+        out.flush();
+    }
+
+    /**
+     * 序列化为UTF-8编码的json并写入通道，写入完成后不关闭通道
+     * @param object 待序列化的对象
+     * @param channel 通道
+     * @throws IOException 序列化或写入发生错误时抛出的异常
+     */
+    default void writeTo(Object object, WritableByteChannel channel) throws IOException {
+        writeTo(object, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * 反序列化UTF-8编码的json为对象
+     * @param content json（UTF-8）
+     * @param clazz 对象类型
+     * @param <T> 对象泛型
+     * @return 返回指定的对象
+     */
+    default <T> T deserializa(byte[] content, Class<T> clazz) {
+        return content == null ? null : deserializa(new String(content, StandardCharsets.UTF_8), clazz);
+    }
+
+    /**
+     * 反序列化缓冲区中UTF-8编码的json为对象，读取position到limit之间的内容，不改变缓冲区位置
+     * @param content json（UTF-8）
+     * @param clazz 对象类型
+     * @param <T> 对象泛型
+     * @return 返回指定的对象
+     */
+    default <T> T deserializa(ByteBuffer content, Class<T> clazz) {
+        return content == null ? null : deserializa(StandardCharsets.UTF_8.decode(content.duplicate()).toString(), clazz);
+    }
 }
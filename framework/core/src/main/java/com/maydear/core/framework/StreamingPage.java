@@ -0,0 +1,178 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 流式分页对象
+ * <p>
+ * 记录由{@link Iterator}、{@link Stream}或数据库游标逐条提供，不要求整页记录同时驻留内存，用于大批量导出。
+ * 序列化时逐条输出记录并按批刷新到输出流，序列化完成后关闭底层资源。记录只能遍历一次。
+ *
+ * @param <T> 记录类型
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Slf4j
+public final class StreamingPage<T> implements AutoCloseable {
+
+    /**
+     * 总记录数未知
+     */
+    public static final long UNKNOWN_RECORD_COUNT = -1L;
+
+    /**
+     * 每页记录数，0表示不分页
+     */
+    private final int pageSize;
+
+    /**
+     * 当前页
+     */
+    private final int pageIndex;
+
+    /**
+     * 总记录数，未知时为{@link #UNKNOWN_RECORD_COUNT}
+     */
+    private final long recordCount;
+
+    private final Iterator<T> records;
+
+    /**
+     * 序列化完成后需要关闭的资源，如数据库游标
+     */
+    private final AutoCloseable resource;
+
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private StreamingPage(int pageSize, int pageIndex, long recordCount, Iterator<T> records, AutoCloseable resource) {
+        this.pageSize = pageSize;
+        this.pageIndex = pageIndex;
+        this.recordCount = recordCount;
+        this.records = records == null ? Collections.emptyIterator() : records;
+        this.resource = resource;
+    }
+
+    /**
+     * 由Stream构造不分页的流式分页对象，序列化完成后关闭Stream
+     *
+     * @param records 记录流
+     * @param <T>     记录类型
+     * @return 返回流式分页对象
+     */
+    public static <T> StreamingPage<T> of(Stream<T> records) {
+        return of(records, 0, 0, UNKNOWN_RECORD_COUNT);
+    }
+
+    /**
+     * 由Stream构造流式分页对象，序列化完成后关闭Stream
+     *
+     * @param records     记录流
+     * @param pageSize    每页记录数
+     * @param pageIndex   当前页
+     * @param recordCount 总记录数，未知时为{@link #UNKNOWN_RECORD_COUNT}
+     * @param <T>         记录类型
+     * @return 返回流式分页对象
+     */
+    public static <T> StreamingPage<T> of(Stream<T> records, int pageSize, int pageIndex, long recordCount) {
+        return new StreamingPage<>(pageSize, pageIndex, recordCount, records.iterator(), records);
+    }
+
+    /**
+     * 由Iterator构造不分页的流式分页对象
+     *
+     * @param records 记录迭代器
+     * @param <T>     记录类型
+     * @return 返回流式分页对象
+     */
+    public static <T> StreamingPage<T> of(Iterator<T> records) {
+        return of(records, null, 0, 0, UNKNOWN_RECORD_COUNT);
+    }
+
+    /**
+     * 由Iterator构造流式分页对象
+     *
+     * @param records     记录迭代器，如数据库游标的迭代器
+     * @param resource    序列化完成后需要关闭的资源，如数据库游标，可为空
+     * @param pageSize    每页记录数
+     * @param pageIndex   当前页
+     * @param recordCount 总记录数，未知时为{@link #UNKNOWN_RECORD_COUNT}
+     * @param <T>         记录类型
+     * @return 返回流式分页对象
+     */
+    public static <T> StreamingPage<T> of(Iterator<T> records, AutoCloseable resource, int pageSize, int pageIndex, long recordCount) {
+        return new StreamingPage<>(pageSize, pageIndex, recordCount, records, resource);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 获取返回页数，总记录数未知时返回0
+     *
+     * @return 返回页数
+     */
+    public int getPageCount() {
+        if (recordCount <= 0 || pageSize == 0) {
+            return 0;
+        }
+        return (int) Math.ceil((double) recordCount / pageSize);
+    }
+
+    /**
+     * 获取记录迭代器，只能获取一次
+     *
+     * @return 返回记录迭代器
+     */
+    public Iterator<T> iterator() {
+        if (!consumed.compareAndSet(false, true)) {
+            throw new IllegalStateException("streaming page records can only be iterated once");
+        }
+        return records;
+    }
+
+    /**
+     * 关闭底层资源，重复调用无效
+     */
+    @Override
+    public void close() {
+        if (resource == null || !closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.warn("failed to close streaming page resource", e);
+        }
+    }
+}
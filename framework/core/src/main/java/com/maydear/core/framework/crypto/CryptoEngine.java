@@ -0,0 +1,665 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.crypto;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import javax.crypto.*;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.*;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 加密引擎
+ * <p>
+ * BouncyCastle提供者只注册一次；{@link Cipher}、{@link Mac}、{@link MessageDigest}按算法名称在每个线程内复用，
+ * 密钥规格按（算法，密钥字节）缓存。线程内复用的实例只在本类方法内部使用，不对外暴露，因此调用方无需关心重入与状态重置。
+ * 同一线程连续使用相同的密钥（以及相同的向量）时会跳过重复的初始化。
+ * <p>
+ * 流式方法按固定大小的缓冲区分块处理，内存占用与数据长度无关；由于处理过程中会回调调用方的流或通道，流式方法使用独立的实例而不是线程内复用的实例。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public final class CryptoEngine {
+
+    /**
+     * 密钥缓存的最大数量
+     */
+    private static final int MAX_CACHED_KEYS = 1024;
+
+    /**
+     * 流式处理的缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * GCM认证标签长度（位）
+     */
+    private static final int GCM_TAG_BITS = 128;
+
+    /**
+     * ChaCha20-Poly1305转换名称
+     */
+    private static final String CHACHA20_POLY1305 = "ChaCha20-Poly1305";
+
+    private static final Cache<KeyCacheKey, SecretKey> SECRET_KEYS = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_KEYS)
+        .build();
+
+    private static final ThreadLocal<Map<String, CipherHolder>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+    private static final ThreadLocal<Map<String, MacHolder>> MACS = ThreadLocal.withInitial(HashMap::new);
+
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SecureRandom::new);
+
+    /**
+     * 静态工具类不应该被实例化
+     */
+    private CryptoEngine() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 获取已注册的BouncyCastle提供者，首次调用时注册
+     *
+     * @return 返回BouncyCastle提供者
+     */
+    public static Provider getBouncyCastleProvider() {
+        return BouncyCastleHolder.PROVIDER;
+    }
+
+    /**
+     * 获取缓存的密钥规格
+     *
+     * @param key       密钥
+     * @param algorithm 算法名称
+     * @return 返回密钥规格
+     */
+    public static SecretKey getSecretKey(byte[] key, String algorithm) {
+        KeyCacheKey cacheKey = new KeyCacheKey(algorithm, key);
+        SecretKey secretKey = SECRET_KEYS.getIfPresent(cacheKey);
+        if (secretKey == null) {
+            secretKey = new SecretKeySpec(key, algorithm);
+            SECRET_KEYS.put(new KeyCacheKey(algorithm, key.clone()), secretKey);
+        }
+        return secretKey;
+    }
+
+    /**
+     * 计算摘要
+     *
+     * @param algorithm 摘要算法，如MD5、SHA-256
+     * @param data      数据
+     * @return 返回摘要
+     * @throws NoSuchAlgorithmException 算法不存在
+     */
+    public static byte[] digest(String algorithm, byte[] data) throws NoSuchAlgorithmException {
+        return getDigest(algorithm).digest(data);
+    }
+
+    /**
+     * 计算摘要，处理缓冲区中剩余的数据，直接缓冲区不会被复制为数组
+     *
+     * @param algorithm 摘要算法，如MD5、SHA-256
+     * @param data      数据，处理后position移动到limit
+     * @return 返回摘要
+     * @throws NoSuchAlgorithmException 算法不存在
+     */
+    public static byte[] digest(String algorithm, ByteBuffer data) throws NoSuchAlgorithmException {
+        MessageDigest digest = getDigest(algorithm);
+        digest.update(data);
+        return digest.digest();
+    }
+
+    /**
+     * 流式计算摘要，读取到流结束为止，不关闭流
+     *
+     * @param algorithm 摘要算法，如MD5、SHA-256
+     * @param input     输入流
+     * @return 返回摘要
+     * @throws NoSuchAlgorithmException 算法不存在
+     * @throws IOException              读取失败
+     */
+    public static byte[] digest(String algorithm, InputStream input) throws NoSuchAlgorithmException, IOException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * 流式计算摘要，读取到通道结束为止，不关闭通道
+     *
+     * @param algorithm 摘要算法，如MD5、SHA-256
+     * @param channel   输入通道
+     * @return 返回摘要
+     * @throws NoSuchAlgorithmException 算法不存在
+     * @throws IOException              读取失败
+     */
+    public static byte[] digest(String algorithm, ReadableByteChannel channel) throws NoSuchAlgorithmException, IOException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+        }
+        return digest.digest();
+    }
+
+    /**
+     * 计算消息认证码
+     *
+     * @param algorithm 算法名称，如HmacSHA256
+     * @param key       密钥
+     * @param data      数据
+     * @return 返回消息认证码
+     * @throws NoSuchAlgorithmException 算法不存在
+     * @throws InvalidKeyException      密钥无效
+     */
+    public static byte[] mac(String algorithm, byte[] key, byte[] data) throws NoSuchAlgorithmException, InvalidKeyException {
+        return getMac(algorithm, key).doFinal(data);
+    }
+
+    /**
+     * 计算消息认证码，处理缓冲区中剩余的数据，直接缓冲区不会被复制为数组
+     *
+     * @param algorithm 算法名称，如HmacSHA256
+     * @param key       密钥
+     * @param data      数据，处理后position移动到limit
+     * @return 返回消息认证码
+     * @throws NoSuchAlgorithmException 算法不存在
+     * @throws InvalidKeyException      密钥无效
+     */
+    public static byte[] mac(String algorithm, byte[] key, ByteBuffer data) throws NoSuchAlgorithmException, InvalidKeyException {
+        Mac mac = getMac(algorithm, key);
+        mac.update(data);
+        return mac.doFinal();
+    }
+
+    /**
+     * 流式计算消息认证码，读取到流结束为止，不关闭流
+     *
+     * @param algorithm 算法名称，如HmacSHA256
+     * @param key       密钥
+     * @param input     输入流
+     * @return 返回消息认证码
+     * @throws NoSuchAlgorithmException 算法不存在
+     * @throws InvalidKeyException      密钥无效
+     * @throws IOException              读取失败
+     */
+    public static byte[] mac(String algorithm, byte[] key, InputStream input) throws NoSuchAlgorithmException, InvalidKeyException, IOException {
+        Mac mac = Mac.getInstance(algorithm);
+        mac.init(getSecretKey(key, algorithm));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            mac.update(buffer, 0, read);
+        }
+        return mac.doFinal();
+    }
+
+    /**
+     * 流式计算消息认证码，读取到通道结束为止，不关闭通道
+     *
+     * @param algorithm 算法名称，如HmacSHA256
+     * @param key       密钥
+     * @param channel   输入通道
+     * @return 返回消息认证码
+     * @throws NoSuchAlgorithmException 算法不存在
+     * @throws InvalidKeyException      密钥无效
+     * @throws IOException              读取失败
+     */
+    public static byte[] mac(String algorithm, byte[] key, ReadableByteChannel channel) throws NoSuchAlgorithmException, InvalidKeyException, IOException {
+        Mac mac = Mac.getInstance(algorithm);
+        mac.init(getSecretKey(key, algorithm));
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            mac.update(buffer);
+            buffer.clear();
+        }
+        return mac.doFinal();
+    }
+
+    /**
+     * 对称加密或解密
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param iv             向量，为空时不使用向量
+     * @param data           数据
+     * @return 返回加密或解密结果
+     */
+    public static byte[] cipher(String transformation, int opmode, byte[] key, byte[] iv, byte[] data) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        CipherHolder holder = getCipher(transformation);
+        SecretKey secretKey = getSecretKey(key, algorithmOf(transformation));
+        holder.init(opmode, secretKey, iv);
+        try {
+            return holder.cipher.doFinal(data);
+        } catch (BadPaddingException | IllegalBlockSizeException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+    }
+
+    /**
+     * 对称加密或解密缓冲区中剩余的数据，结果写入输出缓冲区，支持直接缓冲区
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param iv             向量，为空时不使用向量
+     * @param input          输入数据，处理后position移动到limit
+     * @param output         输出缓冲区，剩余空间不足时抛出{@link ShortBufferException}
+     * @return 返回写入输出缓冲区的字节数
+     */
+    public static int cipher(String transformation, int opmode, byte[] key, byte[] iv, ByteBuffer input, ByteBuffer output) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        CipherHolder holder = getCipher(transformation);
+        SecretKey secretKey = getSecretKey(key, algorithmOf(transformation));
+        holder.init(opmode, secretKey, iv);
+        try {
+            return holder.cipher.doFinal(input, output);
+        } catch (BadPaddingException | IllegalBlockSizeException | ShortBufferException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+    }
+
+    /**
+     * 流式加密或解密，分块读取输入流并写入输出流，不关闭输入输出流
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param iv             向量，为空时不使用向量
+     * @param input          输入流
+     * @param output         输出流
+     * @return 返回写入输出流的字节数
+     */
+    public static long cipher(String transformation, int opmode, byte[] key, byte[] iv, InputStream input, OutputStream output) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, IOException {
+        Cipher cipher = newCipher(transformation, opmode, key, iv);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] result = new byte[cipher.getOutputSize(BUFFER_SIZE)];
+        long total = 0;
+        try {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                result = ensureCapacity(result, cipher.getOutputSize(read));
+                int length = cipher.update(buffer, 0, read, result);
+                output.write(result, 0, length);
+                total += length;
+            }
+            result = ensureCapacity(result, cipher.getOutputSize(0));
+            int length = cipher.doFinal(result, 0);
+            output.write(result, 0, length);
+            return total + length;
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 认证加密或解密（AES/GCM/NoPadding、ChaCha20-Poly1305），一次处理同时完成加密与完整性校验
+     * <p>
+     * 认证加密模式禁止以相同的密钥和随机数重复加密，每次调用都会重新初始化，随机数应使用{@link #randomBytes(int)}生成。
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param nonce          随机数
+     * @param aad            附加认证数据，可为空
+     * @param data           数据，解密时为密文与认证标签
+     * @return 返回加密结果（密文与认证标签）或解密后的明文
+     * @throws AEADBadTagException 解密时认证失败
+     */
+    public static byte[] aead(String transformation, int opmode, byte[] key, byte[] nonce, byte[] aad, byte[] data) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        CipherHolder holder = getCipher(transformation);
+        holder.init(opmode, getSecretKey(key, algorithmOf(transformation)), nonce);
+        try {
+            if (aad != null) {
+                holder.cipher.updateAAD(aad);
+            }
+            return holder.cipher.doFinal(data);
+        } catch (BadPaddingException | IllegalBlockSizeException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+    }
+
+    /**
+     * 认证加密或解密缓冲区中剩余的数据，支持直接缓冲区
+     * <p>
+     * 输入与输出可以是同一缓冲区的两个{@link ByteBuffer#duplicate()}视图，以实现原地加密或解密。
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param nonce          随机数
+     * @param aad            附加认证数据，可为空
+     * @param input          输入数据，处理后position移动到limit
+     * @param output         输出缓冲区，剩余空间不足时抛出{@link ShortBufferException}
+     * @return 返回写入输出缓冲区的字节数
+     * @throws AEADBadTagException 解密时认证失败
+     */
+    public static int aead(String transformation, int opmode, byte[] key, byte[] nonce, ByteBuffer aad, ByteBuffer input, ByteBuffer output) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        CipherHolder holder = getCipher(transformation);
+        holder.init(opmode, getSecretKey(key, algorithmOf(transformation)), nonce);
+        try {
+            if (aad != null) {
+                holder.cipher.updateAAD(aad);
+            }
+            return holder.cipher.doFinal(input, output);
+        } catch (BadPaddingException | IllegalBlockSizeException | ShortBufferException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+    }
+
+    /**
+     * 生成安全随机字节，用于向量或随机数
+     *
+     * @param length 长度
+     * @return 返回随机字节
+     */
+    public static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        RANDOMS.get().nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 创建在读取时加密或解密的输入流，关闭时同时关闭原始输入流
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param iv             向量，为空时不使用向量
+     * @param input          原始输入流
+     * @return 返回加密或解密输入流
+     */
+    public static CipherInputStream newCipherInputStream(String transformation, int opmode, byte[] key, byte[] iv, InputStream input) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException {
+        return new CipherInputStream(input, newCipher(transformation, opmode, key, iv));
+    }
+
+    /**
+     * 创建在写入时加密或解密的输出流，关闭时完成最后一块的处理并关闭原始输出流
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param iv             向量，为空时不使用向量
+     * @param output         原始输出流
+     * @return 返回加密或解密输出流
+     */
+    public static CipherOutputStream newCipherOutputStream(String transformation, int opmode, byte[] key, byte[] iv, OutputStream output) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException {
+        return new CipherOutputStream(output, newCipher(transformation, opmode, key, iv));
+    }
+
+    /**
+     * 创建独立的并已初始化的Cipher实例，用于生命周期超出单次调用的场景
+     *
+     * @param transformation 算法/模式/补码方式
+     * @param opmode         {@link Cipher#ENCRYPT_MODE}或{@link Cipher#DECRYPT_MODE}
+     * @param key            密钥
+     * @param iv             向量，为空时不使用向量
+     * @return 返回已初始化的Cipher
+     */
+    public static Cipher newCipher(String transformation, int opmode, byte[] key, byte[] iv) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException {
+        Cipher cipher = newCipher(transformation);
+        SecretKey secretKey = getSecretKey(key, algorithmOf(transformation));
+        if (iv == null) {
+            cipher.init(opmode, secretKey);
+        } else {
+            cipher.init(opmode, secretKey, parameterSpecOf(transformation, iv));
+        }
+        return cipher;
+    }
+
+    /**
+     * 获取线程内复用的摘要实例
+     */
+    static MessageDigest getDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> digests = DIGESTS.get();
+        MessageDigest digest = digests.get(algorithm);
+        if (digest == null) {
+            digest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, digest);
+        } else {
+            digest.reset();
+        }
+        return digest;
+    }
+
+    /**
+     * 获取线程内复用并已用指定密钥初始化的消息认证码实例
+     */
+    static Mac getMac(String algorithm, byte[] key) throws NoSuchAlgorithmException, InvalidKeyException {
+        Map<String, MacHolder> macs = MACS.get();
+        MacHolder holder = macs.get(algorithm);
+        if (holder == null) {
+            holder = new MacHolder(Mac.getInstance(algorithm));
+            macs.put(algorithm, holder);
+        }
+        SecretKey secretKey = getSecretKey(key, algorithm);
+        if (holder.key != secretKey) {
+            holder.key = null;
+            holder.mac.init(secretKey);
+            holder.key = secretKey;
+        } else {
+            holder.mac.reset();
+        }
+        return holder.mac;
+    }
+
+    private static CipherHolder getCipher(String transformation) throws NoSuchPaddingException, NoSuchAlgorithmException {
+        Map<String, CipherHolder> ciphers = CIPHERS.get();
+        CipherHolder holder = ciphers.get(transformation);
+        if (holder == null) {
+            holder = new CipherHolder(newCipher(transformation), transformation);
+            ciphers.put(transformation, holder);
+        }
+        return holder;
+    }
+
+    /**
+     * 优先使用JDK自带实现，JDK不支持的转换（如PKCS7Padding）使用BouncyCastle
+     */
+    private static Cipher newCipher(String transformation) throws NoSuchPaddingException, NoSuchAlgorithmException {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            return Cipher.getInstance(transformation, getBouncyCastleProvider());
+        }
+    }
+
+    private static byte[] ensureCapacity(byte[] buffer, int size) {
+        return buffer.length >= size ? buffer : new byte[size];
+    }
+
+    /**
+     * 获取密钥算法名称，ChaCha20-Poly1305的密钥算法为ChaCha20
+     */
+    private static String algorithmOf(String transformation) {
+        if (transformation.startsWith(CHACHA20_POLY1305)) {
+            return "ChaCha20";
+        }
+        int index = transformation.indexOf('/');
+        return index < 0 ? transformation : transformation.substring(0, index);
+    }
+
+    /**
+     * 是否为认证加密转换，认证加密模式禁止以相同参数重复加密，不能跳过初始化
+     */
+    private static boolean isAead(String transformation) {
+        return transformation.startsWith(CHACHA20_POLY1305) || transformation.contains("/GCM/");
+    }
+
+    private static AlgorithmParameterSpec parameterSpecOf(String transformation, byte[] iv) {
+        if (transformation.contains("/GCM/")) {
+            return new GCMParameterSpec(GCM_TAG_BITS, iv);
+        }
+        return new IvParameterSpec(iv);
+    }
+
+    /**
+     * 延迟注册BouncyCastle提供者
+     */
+    private static final class BouncyCastleHolder {
+
+        private static final Provider PROVIDER = register();
+
+        private static Provider register() {
+            Provider provider = Security.getProvider(BouncyCastleProvider.PROVIDER_NAME);
+            if (provider == null) {
+                provider = new BouncyCastleProvider();
+                Security.addProvider(provider);
+            }
+            return provider;
+        }
+    }
+
+    /**
+     * 线程内复用的Cipher及其最近一次初始化参数
+     */
+    private static final class CipherHolder {
+
+        private Cipher cipher;
+
+        /**
+         * 是否允许在参数相同时跳过初始化
+         */
+        private final boolean reusable;
+
+        private final String transformation;
+
+        /**
+         * 当前参数是否仍然有效
+         */
+        private boolean valid;
+
+        private int opmode;
+
+        private SecretKey key;
+
+        private byte[] iv;
+
+        private CipherHolder(Cipher cipher, String transformation) {
+            this.cipher = cipher;
+            this.transformation = transformation;
+            this.reusable = !isAead(transformation);
+        }
+
+        /**
+         * doFinal完成后Cipher会回到初始化后的状态，参数相同时无需重新初始化；认证加密模式每次都重新初始化，
+         * 以上一次的密钥和随机数加密时抛出异常，解密（如先加密后解密同一份数据）时改用新的实例
+         */
+        private void init(int opmode, SecretKey key, byte[] iv) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException {
+            boolean sameParameters = this.key == key && Arrays.equals(this.iv, iv);
+            if (reusable && valid && sameParameters && this.opmode == opmode) {
+                return;
+            }
+            if (!reusable && sameParameters) {
+                if (opmode != Cipher.DECRYPT_MODE) {
+                    throw new InvalidAlgorithmParameterException("认证加密禁止以相同的密钥和随机数重复加密：" + transformation);
+                }
+                cipher = newCipher(transformation);
+            }
+            invalidate();
+            if (iv == null) {
+                cipher.init(opmode, key);
+            } else {
+                cipher.init(opmode, key, parameterSpecOf(transformation, iv));
+            }
+            this.opmode = opmode;
+            this.key = key;
+            this.iv = iv == null ? null : iv.clone();
+            this.valid = true;
+        }
+
+        private void invalidate() {
+            this.valid = false;
+        }
+    }
+
+    /**
+     * 线程内复用的Mac及其当前密钥
+     */
+    private static final class MacHolder {
+
+        private final Mac mac;
+
+        private SecretKey key;
+
+        private MacHolder(Mac mac) {
+            this.mac = mac;
+        }
+    }
+
+    /**
+     * 密钥缓存键
+     */
+    private static final class KeyCacheKey {
+
+        private final String algorithm;
+
+        private final byte[] key;
+
+        private final int hash;
+
+        private KeyCacheKey(String algorithm, byte[] key) {
+            this.algorithm = algorithm;
+            this.key = key;
+            this.hash = 31 * algorithm.hashCode() + Arrays.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof KeyCacheKey)) {
+                return false;
+            }
+            KeyCacheKey that = (KeyCacheKey) o;
+            return hash == that.hash && algorithm.equals(that.algorithm) && Arrays.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * 加密引擎
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+package com.maydear.core.framework.crypto;
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.id;
+
+/**
+ * 标识生成器
+ * <p>
+ * 通过{@link java.util.ServiceLoader}（META-INF/services/com.maydear.core.framework.id.IdGenerator）发现的第一个实现将作为
+ * {@link IdGenerators#getDefault()}，也可以通过{@link IdGenerators#setDefault(IdGenerator)}指定。实现必须是线程安全的。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * 生成新的标识
+     *
+     * @return 返回标识字符串
+     */
+    String generate();
+}
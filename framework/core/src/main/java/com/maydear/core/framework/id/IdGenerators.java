@@ -0,0 +1,133 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.id;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * 标识生成器注册与公共编码
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public final class IdGenerators {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * 每个线程独立的安全随机数，避免共享的{@link SecureRandom}（如UUID.randomUUID）在高并发下的锁竞争
+     */
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(IdGenerators::newSecureRandom);
+
+    private static volatile IdGenerator defaultGenerator;
+
+    /**
+     * 静态工具类不应该被实例化
+     */
+    private IdGenerators() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 获取默认标识生成器，未指定时使用SPI发现的第一个实现，没有SPI实现时使用不带中横杆的随机UUID
+     *
+     * @return 返回默认标识生成器
+     */
+    public static IdGenerator getDefault() {
+        IdGenerator generator = defaultGenerator;
+        if (generator == null) {
+            synchronized (IdGenerators.class) {
+                generator = defaultGenerator;
+                if (generator == null) {
+                    Iterator<IdGenerator> iterator = ServiceLoader.load(IdGenerator.class).iterator();
+                    generator = iterator.hasNext() ? iterator.next() : RandomUuidGenerator.INSTANCE;
+                    defaultGenerator = generator;
+                }
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * 指定默认标识生成器
+     *
+     * @param generator 标识生成器
+     */
+    public static void setDefault(IdGenerator generator) {
+        defaultGenerator = generator;
+    }
+
+    /**
+     * 获取当前线程的安全随机数
+     *
+     * @return 返回安全随机数
+     */
+    static SecureRandom random() {
+        return RANDOMS.get();
+    }
+
+    /**
+     * 将128位值编码为32位或带中横杆的36位小写十六进制字符串
+     *
+     * @param mostSigBits  高64位
+     * @param leastSigBits 低64位
+     * @param dashed       是否带中横杆
+     * @return 返回UUID格式字符串
+     */
+    static String formatUuid(long mostSigBits, long leastSigBits, boolean dashed) {
+        char[] chars = new char[dashed ? 36 : 32];
+        int index = appendHex(chars, 0, mostSigBits >>> 32, 8);
+        if (dashed) {
+            chars[index++] = '-';
+        }
+        index = appendHex(chars, index, mostSigBits >>> 16, 4);
+        if (dashed) {
+            chars[index++] = '-';
+        }
+        index = appendHex(chars, index, mostSigBits, 4);
+        if (dashed) {
+            chars[index++] = '-';
+        }
+        index = appendHex(chars, index, leastSigBits >>> 48, 4);
+        if (dashed) {
+            chars[index++] = '-';
+        }
+        appendHex(chars, index, leastSigBits, 12);
+        return new String(chars);
+    }
+
+    /**
+     * 写入值的低digits个十六进制位
+     */
+    private static int appendHex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+        return offset + digits;
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
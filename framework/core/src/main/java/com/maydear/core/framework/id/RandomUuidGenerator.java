@@ -0,0 +1,57 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.id;
+
+import java.security.SecureRandom;
+
+/**
+ * 随机UUID（版本4）生成器
+ * <p>
+ * 与{@link java.util.UUID#randomUUID()}格式相同，但使用线程独立的安全随机数并直接编码为十六进制，不经过toString与正则替换。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public final class RandomUuidGenerator implements IdGenerator {
+
+    /**
+     * 不带中横杆的32位小写UUID
+     */
+    public static final RandomUuidGenerator INSTANCE = new RandomUuidGenerator(false);
+
+    /**
+     * 带中横杆的36位小写UUID
+     */
+    public static final RandomUuidGenerator DASHED = new RandomUuidGenerator(true);
+
+    private final boolean dashed;
+
+    private RandomUuidGenerator(boolean dashed) {
+        this.dashed = dashed;
+    }
+
+    @Override
+    public String generate() {
+        SecureRandom random = IdGenerators.random();
+        long mostSigBits = random.nextLong();
+        long leastSigBits = random.nextLong();
+        // 版本4
+        mostSigBits = (mostSigBits & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        // IETF变体
+        leastSigBits = (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return IdGenerators.formatUuid(mostSigBits, leastSigBits, dashed);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake风格的64位标识生成器
+ * <p>
+ * 结构为：1位符号位（恒为0）+ 41位相对纪元的毫秒时间戳 + 工作节点位 + 序列号位，工作节点位与序列号位合计22位。
+ * 同一毫秒内序列号耗尽或系统时钟回拨时，时间戳部分借用下一毫秒继续递增，保证同一生成器产生的标识严格单调递增且无锁。
+ * 生成的标识可以预测，不应用作票据等安全敏感的标识。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    /**
+     * 默认纪元：2021-01-01T00:00:00Z
+     */
+    public static final long DEFAULT_EPOCH = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+
+    /**
+     * 默认工作节点位数
+     */
+    public static final int DEFAULT_WORKER_BITS = 10;
+
+    /**
+     * 工作节点位与序列号位的总位数
+     */
+    private static final int NODE_AND_SEQUENCE_BITS = 22;
+
+    private final long epoch;
+
+    private final int sequenceBits;
+
+    private final long sequenceMask;
+
+    private final long workerShifted;
+
+    /**
+     * 相对纪元的时间戳与序列号的组合状态：timestamp &lt;&lt; sequenceBits | sequence
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 使用默认纪元与10位工作节点位（最多1024个节点，每节点每毫秒4096个标识）
+     *
+     * @param workerId 工作节点编号
+     */
+    public SnowflakeIdGenerator(long workerId) {
+        this(workerId, DEFAULT_WORKER_BITS, DEFAULT_EPOCH);
+    }
+
+    /**
+     * @param workerId   工作节点编号
+     * @param workerBits 工作节点位数，1至21
+     * @param epoch      纪元（Unix毫秒）
+     */
+    public SnowflakeIdGenerator(long workerId, int workerBits, long epoch) {
+        if (workerBits < 1 || workerBits >= NODE_AND_SEQUENCE_BITS) {
+            throw new IllegalArgumentException("workerBits must be between 1 and " + (NODE_AND_SEQUENCE_BITS - 1));
+        }
+        if (workerId < 0 || workerId >= (1L << workerBits)) {
+            throw new IllegalArgumentException("workerId must be between 0 and " + ((1L << workerBits) - 1));
+        }
+        this.epoch = epoch;
+        this.sequenceBits = NODE_AND_SEQUENCE_BITS - workerBits;
+        this.sequenceMask = (1L << sequenceBits) - 1;
+        this.workerShifted = workerId << sequenceBits;
+    }
+
+    /**
+     * 生成新的64位标识
+     *
+     * @return 返回标识
+     */
+    public long nextId() {
+        long timestamp = System.currentTimeMillis() - epoch;
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long candidate = timestamp << sequenceBits;
+            // 时间前进时序列号从0开始，否则在上一个值的基础上递增（序列号溢出时进位到时间戳）
+            next = candidate > current ? candidate : current + 1;
+        } while (!state.compareAndSet(current, next));
+        return ((next >>> sequenceBits) << NODE_AND_SEQUENCE_BITS) | workerShifted | (next & sequenceMask);
+    }
+
+    @Override
+    public String generate() {
+        return Long.toString(nextId());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.id;
+
+import java.security.SecureRandom;
+
+/**
+ * ULID生成器
+ * <p>
+ * 26位Crockford Base32字符串，前10位为48位Unix毫秒时间戳，后16位为80位安全随机数，按字符串排序即按毫秒时间排序。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public final class UlidGenerator implements IdGenerator {
+
+    /**
+     * 默认实例
+     */
+    public static final UlidGenerator INSTANCE = new UlidGenerator();
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final int LENGTH = 26;
+
+    private static final int TIMESTAMP_LENGTH = 10;
+
+    private UlidGenerator() {
+    }
+
+    @Override
+    public String generate() {
+        SecureRandom random = IdGenerators.random();
+        char[] chars = new char[LENGTH];
+        long timestamp = System.currentTimeMillis();
+        for (int i = TIMESTAMP_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ENCODING[(int) timestamp & 0x1F];
+            timestamp >>>= 5;
+        }
+        // 80位随机数：低12个字符取自64位随机数的低60位，剩余4位与另外16位组成前4个字符
+        long low = random.nextLong();
+        for (int i = LENGTH - 1; i >= TIMESTAMP_LENGTH + 4; i--) {
+            chars[i] = ENCODING[(int) low & 0x1F];
+            low >>>= 5;
+        }
+        long high = ((random.nextInt() & 0xFFFFL) << 4) | low;
+        for (int i = TIMESTAMP_LENGTH + 3; i >= TIMESTAMP_LENGTH; i--) {
+            chars[i] = ENCODING[(int) high & 0x1F];
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.id;
+
+import java.security.SecureRandom;
+
+/**
+ * 按时间排序的UUID（版本7）生成器
+ * <p>
+ * 高48位为Unix毫秒时间戳，其余74位为安全随机数，按字符串或二进制排序即按毫秒时间排序，适合作为B+树索引键；
+ * 时间戳部分可被推测，不可作为密钥或需要保密的票据编号，此类场景使用{@link RandomUuidGenerator}。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+    /**
+     * 不带中横杆的32位小写UUID
+     */
+    public static final UuidV7Generator INSTANCE = new UuidV7Generator(false);
+
+    /**
+     * 带中横杆的36位小写UUID
+     */
+    public static final UuidV7Generator DASHED = new UuidV7Generator(true);
+
+    private final boolean dashed;
+
+    private UuidV7Generator(boolean dashed) {
+        this.dashed = dashed;
+    }
+
+    @Override
+    public String generate() {
+        SecureRandom random = IdGenerators.random();
+        long timestamp = System.currentTimeMillis();
+        // 48位时间戳 + 4位版本 + 12位随机数
+        long mostSigBits = (timestamp << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        // 2位变体 + 62位随机数
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return IdGenerators.formatUuid(mostSigBits, leastSigBits, dashed);
+    }
+}
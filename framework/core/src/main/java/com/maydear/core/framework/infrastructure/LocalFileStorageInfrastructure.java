@@ -62,6 +62,16 @@ public class LocalFileStorageInfrastructure implements FileStorageInfrastructure
         return Paths.get(rootPath, absolutePath);
     }
 
+    /**
+     * 获取文件摘要对应的本地路径，临时文件位于临时目录，其余位于持久目录
+     *
+     * @param fileSummary 文件摘要
+     * @return 返回Path 对象
+     */
+    public Path getPath(FileSummary fileSummary) {
+        return getPath(fileSummary.isTempFile() ? options.getFullTempDirectory() : options.getFullPersistenceDirectory(), fileSummary.getStoragePath());
+    }
+
     /**
      * 写文件
      *
@@ -146,7 +156,6 @@ public class LocalFileStorageInfrastructure implements FileStorageInfrastructure
         if (ObjectUtils.isEmpty(fileSummary)) {
             throw new NotFoundFileException();
         }
-        Path sourcePath = getPath(fileSummary.isTempFile() ? options.getFullTempDirectory() : options.getFullPersistenceDirectory(), fileSummary.getStoragePath());
-        return LocalFileUtils.read(sourcePath);
+        return LocalFileUtils.read(getPath(fileSummary));
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.io;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * 批量摘要选项
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Data
+public class BulkDigestOptions implements Serializable {
+
+    private static final long serialVersionUID = -2714465372009473150L;
+
+    /**
+     * 默认读取缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 默认使用内存映射读取的文件大小阈值
+     */
+    public static final long DEFAULT_MAPPED_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * 默认内存映射窗口大小
+     */
+    public static final long DEFAULT_MAPPED_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * 并行度，默认为处理器数量
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 每个工作线程的直接缓冲区大小
+     */
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * 不小于该大小的文件使用内存映射读取
+     */
+    private long mappedThreshold = DEFAULT_MAPPED_THRESHOLD;
+
+    /**
+     * 内存映射窗口大小，超过该大小的文件分段映射
+     */
+    private long mappedWindowSize = DEFAULT_MAPPED_WINDOW_SIZE;
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.io;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 批量文件摘要服务
+ * <p>
+ * 在有界的{@link ForkJoinPool}上并行计算大量文件的摘要：小文件通过每个工作线程独占的直接缓冲区读取，
+ * 不小于{@link BulkDigestOptions#getMappedThreshold()}的文件分段内存映射读取。每个文件完成后立即回调结果，
+ * 回调在工作线程中并发执行，须保证线程安全；单个文件失败不会中断任务，失败原因记录在结果中。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Slf4j
+public class BulkDigestService implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final BulkDigestOptions options;
+
+    private final ForkJoinPool pool;
+
+    private final ThreadLocal<ByteBuffer> buffers;
+
+    public BulkDigestService() {
+        this(new BulkDigestOptions());
+    }
+
+    public BulkDigestService(BulkDigestOptions options) {
+        this.options = options;
+        this.buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(options.getBufferSize()));
+        this.pool = new ForkJoinPool(options.getParallelism(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("bulk-digest-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 批量计算文件摘要
+     *
+     * @param paths     文件路径
+     * @param algorithm 摘要算法，如{@link MessageDigestAlgorithms#MD5}、{@link MessageDigestAlgorithms#SHA_256}
+     * @param listener  单个文件完成时的回调
+     * @return 返回批量摘要任务
+     */
+    public BulkDigestTask submit(Collection<Path> paths, String algorithm, Consumer<FileDigestResult<Path>> listener) {
+        return submit(paths, Function.identity(), algorithm, listener);
+    }
+
+    /**
+     * 批量校验文件摘要信息中的MD5
+     * <p>
+     * 结果可通过{@code result.matches(result.getSource().getMd5())}判断文件是否完整。
+     *
+     * @param fileSummaries 文件摘要信息
+     * @param pathResolver  由文件摘要信息获取存储路径，如{@link com.maydear.core.framework.infrastructure.LocalFileStorageInfrastructure#getPath(FileSummary)}
+     * @param listener      单个文件完成时的回调
+     * @return 返回批量摘要任务
+     */
+    public BulkDigestTask verify(Collection<FileSummary> fileSummaries, Function<FileSummary, Path> pathResolver, Consumer<FileDigestResult<FileSummary>> listener) {
+        return submit(fileSummaries, pathResolver, MessageDigestAlgorithms.MD5, listener);
+    }
+
+    /**
+     * 批量计算摘要
+     *
+     * @param sources      摘要来源
+     * @param pathResolver 由摘要来源获取文件路径
+     * @param algorithm    摘要算法，如{@link MessageDigestAlgorithms#MD5}、{@link MessageDigestAlgorithms#SHA_256}
+     * @param listener     单个文件完成时的回调
+     * @param <T>          摘要来源类型
+     * @return 返回批量摘要任务
+     */
+    public <T> BulkDigestTask submit(Collection<T> sources, Function<T, Path> pathResolver, String algorithm, Consumer<FileDigestResult<T>> listener) {
+        try {
+            MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+        List<T> list = new ArrayList<>(sources);
+        BulkDigestTask task = new BulkDigestTask(list.size());
+        task.setFuture(pool.submit(new DigestAction<>(new DigestContext<>(list, pathResolver, algorithm, listener, task), 0, list.size())));
+        return task;
+    }
+
+    /**
+     * 停止接受新任务并等待已提交的任务结束
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("bulk digest pool did not terminate in {} seconds", CLOSE_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 计算单个文件的摘要
+     *
+     * @return 返回摘要，任务取消时返回null
+     */
+    private byte[] digest(FileChannel channel, long size, MessageDigest digest, BulkDigestTask task) throws IOException {
+        if (size >= options.getMappedThreshold()) {
+            for (long position = 0; position < size; position += options.getMappedWindowSize()) {
+                if (task.isCancelled()) {
+                    return null;
+                }
+                long length = Math.min(options.getMappedWindowSize(), size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                digest.update(buffer);
+                task.processed(length);
+            }
+        } else {
+            ByteBuffer buffer = buffers.get();
+            buffer.clear();
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                if (task.isCancelled()) {
+                    return null;
+                }
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+                task.processed(read);
+            }
+        }
+        return digest.digest();
+    }
+
+    private <T> void digest(T source, DigestContext<T> context) {
+        BulkDigestTask task = context.task;
+        if (task.isCancelled()) {
+            return;
+        }
+        Path path = null;
+        FileDigestResult<T> result;
+        try {
+            path = context.pathResolver.apply(source);
+            MessageDigest digest = MessageDigest.getInstance(context.algorithm);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                byte[] value = digest(channel, size, digest, task);
+                if (value == null) {
+                    return;
+                }
+                result = new FileDigestResult<>(source, path, context.algorithm, value, size, null);
+            }
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            result = new FileDigestResult<>(source, path, context.algorithm, null, 0, e);
+        }
+        task.completed(result.isSuccess());
+        try {
+            context.listener.accept(result);
+        } catch (RuntimeException e) {
+            log.error("bulk digest listener failed for {}", result.getPath(), e);
+        }
+    }
+
+    /**
+     * 一次批量任务共享的参数
+     */
+    private static final class DigestContext<T> {
+
+        private final List<T> sources;
+
+        private final Function<T, Path> pathResolver;
+
+        private final String algorithm;
+
+        private final Consumer<FileDigestResult<T>> listener;
+
+        private final BulkDigestTask task;
+
+        private DigestContext(List<T> sources, Function<T, Path> pathResolver, String algorithm, Consumer<FileDigestResult<T>> listener, BulkDigestTask task) {
+            this.sources = sources;
+            this.pathResolver = pathResolver;
+            this.algorithm = algorithm;
+            this.listener = listener;
+            this.task = task;
+        }
+    }
+
+    /**
+     * 按区间二分拆分的摘要任务，每个叶子任务处理一个文件
+     */
+    private final class DigestAction<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient DigestContext<T> context;
+
+        private final int from;
+
+        private final int to;
+
+        private DigestAction(DigestContext<T> context, int from, int to) {
+            this.context = context;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (context.task.isCancelled()) {
+                return;
+            }
+            if (to - from <= 1) {
+                if (from < to) {
+                    digest(context.sources.get(from), context);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DigestAction<>(context, from, middle), new DigestAction<>(context, middle, to));
+        }
+    }
+}
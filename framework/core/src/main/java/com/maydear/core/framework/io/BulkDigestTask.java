@@ -0,0 +1,161 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.io;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 批量摘要任务，用于查询进度、取消与等待完成
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class BulkDigestTask {
+
+    private final int total;
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong processedBytes = new AtomicLong();
+
+    private volatile boolean cancelled;
+
+    private volatile Future<?> future;
+
+    BulkDigestTask(int total) {
+        this.total = total;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    void completed(boolean success) {
+        completed.incrementAndGet();
+        if (!success) {
+            failed.incrementAndGet();
+        }
+    }
+
+    void processed(long bytes) {
+        processedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * 获取文件总数
+     *
+     * @return 返回文件总数
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * 获取已完成的文件数量（含失败）
+     *
+     * @return 返回已完成数量
+     */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * 获取失败的文件数量
+     *
+     * @return 返回失败数量
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * 获取已读取的字节数
+     *
+     * @return 返回已读取字节数
+     */
+    public long getProcessedBytes() {
+        return processedBytes.get();
+    }
+
+    /**
+     * 获取完成比例
+     *
+     * @return 返回0到1之间的完成比例
+     */
+    public double getProgress() {
+        return total == 0 ? 1D : (double) completed.get() / total;
+    }
+
+    /**
+     * 取消任务，尚未开始的文件不再处理，正在处理的文件在下一个读取块之前停止且不会产生结果
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * 是否已取消
+     *
+     * @return 已取消返回true
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 是否已结束（完成或取消后所有工作线程已退出）
+     *
+     * @return 已结束返回true
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * 等待任务结束
+     *
+     * @throws InterruptedException 等待时被中断
+     */
+    public void await() throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 在指定时间内等待任务结束
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return 已结束返回true，超时返回false
+     * @throws InterruptedException 等待时被中断
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            future.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
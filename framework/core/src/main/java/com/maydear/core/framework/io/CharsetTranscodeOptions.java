@@ -0,0 +1,55 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.io;
+
+import lombok.Data;
+
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * 字符集流式转换选项
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Data
+public class CharsetTranscodeOptions {
+
+    /**
+     * 默认缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 读取、解码及编码缓冲区大小，决定转换时占用的内存
+     */
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * 源数据不符合源字符集时的处理方式，默认抛出{@link java.nio.charset.MalformedInputException}
+     */
+    private CodingErrorAction malformedInputAction = CodingErrorAction.REPORT;
+
+    /**
+     * 字符无法以目标字符集表示时的处理方式，默认抛出{@link java.nio.charset.UnmappableCharacterException}
+     */
+    private CodingErrorAction unmappableCharacterAction = CodingErrorAction.REPORT;
+
+    /**
+     * 是否根据BOM及内容探测源字符集，探测到BOM时不输出BOM
+     */
+    private boolean detectCharset;
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.io;
+
+import com.maydear.core.framework.util.CharsetUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 字符集流式转换器
+ * <p>
+ * 按固定大小的直接缓冲区分块读取、解码、编码并写出，内存占用与数据大小无关。
+ * 解码器、编码器及缓冲区在多次转换间复用，实例不是线程安全的，批量转换时每个线程应持有各自的实例。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class CharsetTranscoder {
+
+    private final Charset sourceCharset;
+
+    private final CharsetTranscodeOptions options;
+
+    private final Map<Charset, CharsetDecoder> decoders = new HashMap<>(4);
+
+    private final CharsetEncoder encoder;
+
+    private final ByteBuffer input;
+
+    private final CharBuffer chars;
+
+    private final ByteBuffer output;
+
+    /**
+     * @param sourceCharset 源字符集，开启探测时作为未探测到编码时的默认字符集
+     * @param targetCharset 目标字符集
+     */
+    public CharsetTranscoder(Charset sourceCharset, Charset targetCharset) {
+        this(sourceCharset, targetCharset, new CharsetTranscodeOptions());
+    }
+
+    /**
+     * @param sourceCharset 源字符集，开启探测时作为未探测到编码时的默认字符集
+     * @param targetCharset 目标字符集
+     * @param options       转换选项
+     */
+    public CharsetTranscoder(Charset sourceCharset, Charset targetCharset, CharsetTranscodeOptions options) {
+        this.sourceCharset = sourceCharset;
+        this.options = options;
+        this.encoder = targetCharset.newEncoder()
+            .onMalformedInput(options.getMalformedInputAction())
+            .onUnmappableCharacter(options.getUnmappableCharacterAction());
+        int bufferSize = options.getBufferSize();
+        this.input = ByteBuffer.allocateDirect(bufferSize);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.output = ByteBuffer.allocateDirect(Math.max(bufferSize, (int) Math.ceil(encoder.maxBytesPerChar()) * 2));
+    }
+
+    /**
+     * 转换文件的字符集，目标文件已存在时将被覆盖
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @return 返回实际使用的源字符集
+     * @throws IOException 读写发生错误或遇到无法处理的字符时抛出的异常
+     */
+    public Charset transcode(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return transcode(in, out);
+        }
+    }
+
+    /**
+     * 转换通道数据的字符集，读取至源通道结束，不关闭通道
+     *
+     * @param source 源通道
+     * @param target 目标通道
+     * @return 返回实际使用的源字符集
+     * @throws IOException 读写发生错误或遇到无法处理的字符时抛出的异常
+     */
+    public Charset transcode(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        input.clear();
+        chars.clear();
+        output.clear();
+        encoder.reset();
+
+        boolean endOfInput = fill(source);
+        Charset charset = sourceCharset;
+        if (options.isDetectCharset()) {
+            input.flip();
+            charset = CharsetUtils.detect(input, sourceCharset);
+            input.position(input.position() + CharsetUtils.getBomLength(input, charset));
+            input.compact();
+        }
+        CharsetDecoder decoder = decoderOf(charset);
+
+        while (true) {
+            input.flip();
+            decode(decoder, target, endOfInput);
+            input.compact();
+            if (endOfInput) {
+                break;
+            }
+            endOfInput = source.read(input) < 0;
+        }
+
+        while (decoder.flush(chars).isOverflow()) {
+            encode(target, false);
+        }
+        encode(target, true);
+        while (encoder.flush(output).isOverflow()) {
+            write(target);
+        }
+        write(target);
+        return charset;
+    }
+
+    /**
+     * 填满读取缓冲区用于探测字符集
+     *
+     * @return 源通道已结束返回true
+     */
+    private boolean fill(ReadableByteChannel source) throws IOException {
+        while (input.hasRemaining()) {
+            if (source.read(input) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CharsetDecoder decoderOf(Charset charset) {
+        CharsetDecoder decoder = decoders.computeIfAbsent(charset, key -> key.newDecoder()
+            .onMalformedInput(options.getMalformedInputAction())
+            .onUnmappableCharacter(options.getUnmappableCharacterAction()));
+        decoder.reset();
+        return decoder;
+    }
+
+    private void decode(CharsetDecoder decoder, WritableByteChannel target, boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = decoder.decode(input, chars, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            encode(target, false);
+            if (result.isUnderflow()) {
+                return;
+            }
+        }
+    }
+
+    private void encode(WritableByteChannel target, boolean endOfInput) throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(chars, output, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isUnderflow()) {
+                break;
+            }
+            write(target);
+        }
+        chars.compact();
+    }
+
+    private void write(WritableByteChannel target) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            target.write(output);
+        }
+        output.clear();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.io;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * 单个文件的摘要结果
+ *
+ * @param <T> 摘要来源类型，如{@link Path}、{@link FileSummary}
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+@ToString(exclude = "digest")
+public class FileDigestResult<T> {
+
+    /**
+     * 摘要来源
+     */
+    private final T source;
+
+    /**
+     * 文件路径
+     */
+    private final Path path;
+
+    /**
+     * 摘要算法
+     */
+    private final String algorithm;
+
+    /**
+     * 摘要，失败时为空
+     */
+    private final byte[] digest;
+
+    /**
+     * 文件大小
+     */
+    private final long size;
+
+    /**
+     * 失败原因，成功时为空
+     */
+    private final Exception exception;
+
+    FileDigestResult(T source, Path path, String algorithm, byte[] digest, long size, Exception exception) {
+        this.source = source;
+        this.path = path;
+        this.algorithm = algorithm;
+        this.digest = digest;
+        this.size = size;
+        this.exception = exception;
+    }
+
+    /**
+     * 是否成功
+     *
+     * @return 成功返回true
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * 获取十六进制编码的摘要
+     *
+     * @return 返回十六进制摘要，失败时返回空字符串
+     */
+    public String getHex() {
+        return digest == null ? StringUtils.EMPTY : Hex.encodeHexString(digest);
+    }
+
+    /**
+     * 与期望的十六进制摘要比较
+     *
+     * @param expectedHex 期望的十六进制摘要
+     * @return 一致返回true，失败或不一致返回false
+     */
+    public boolean matches(String expectedHex) {
+        return isSuccess() && StringUtils.equalsIgnoreCase(getHex(), expectedHex);
+    }
+}
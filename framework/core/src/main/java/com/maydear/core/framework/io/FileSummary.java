@@ -176,7 +176,7 @@ public class FileSummary implements Serializable, Cloneable {
     }
 
     /**
-     * 获取存储路径
+     * 获取存储路径，文件标志为空时由{@link UUIDUtils#nextId()}生成
      *
      * @return 返回完整存储路径
      */
@@ -185,7 +185,7 @@ public class FileSummary implements Serializable, Cloneable {
             createTime = LocalDateTime.now();
         }
         if (StringUtils.isBlank(id)) {
-            id = UUIDUtils.generateNoUnderline();
+            id = UUIDUtils.nextId();
         }
         String dateDirectory = MessageFormat.format("{0}/{1}/{2}", String.valueOf(createTime.getYear()), String.valueOf(createTime.getMonth().getValue()), String.valueOf(createTime.getDayOfMonth()));
         if (StringUtils.isNotBlank(storageDirectory)) {
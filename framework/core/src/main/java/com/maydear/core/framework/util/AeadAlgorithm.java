@@ -0,0 +1,65 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.util;
+
+import lombok.Getter;
+
+/**
+ * 认证加密（AEAD）算法
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+public enum AeadAlgorithm {
+
+    /**
+     * AES-GCM，密钥长度16、24或32字节
+     */
+    AES_GCM(1, "AES/GCM/NoPadding", 12, 16),
+
+    /**
+     * ChaCha20-Poly1305，密钥长度32字节
+     */
+    CHACHA20_POLY1305(2, "ChaCha20-Poly1305", 12, 16);
+
+    /**
+     * 算法值
+     */
+    private int value;
+
+    /**
+     * 转换名称
+     */
+    private String name;
+
+    /**
+     * 随机数长度（字节）
+     */
+    private int nonceLength;
+
+    /**
+     * 认证标签长度（字节）
+     */
+    private int tagLength;
+
+    AeadAlgorithm(int value, String name, int nonceLength, int tagLength) {
+        this.value = value;
+        this.name = name;
+        this.nonceLength = nonceLength;
+        this.tagLength = tagLength;
+    }
+}
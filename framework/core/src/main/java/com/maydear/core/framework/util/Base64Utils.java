@@ -15,10 +15,14 @@
  */
 package com.maydear.core.framework.util;
 
+import com.maydear.core.framework.exception.NotFoundFileException;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 
 /**
@@ -42,6 +46,16 @@ public class Base64Utils {
     private static final String EXTENSION_GIF = "gif";
     private static final String EXTENSION_ICO = "ico";
 
+    /**
+     * 流式编码时每次读取的字节数，须为3的倍数以保证分块编码结果与整体编码一致
+     */
+    private static final int ENCODE_CHUNK_SIZE = 3 * 16 * 1024;
+
+    /**
+     * 流式解码时每次读取的字节数
+     */
+    private static final int DECODE_CHUNK_SIZE = 64 * 1024;
+
     /**
      * 将明文字符串进行Base64编码
      *
@@ -59,6 +73,46 @@ public class Base64Utils {
      */
     public static String encodeImage(String strPath, String originalFilename) {
         String base64Content = Base64.getUrlEncoder().encodeToString(LocalFileUtils.read(Path.of(strPath)));
+        return getImageDataUriPrefix(originalFilename) + base64Content;
+    }
+
+    /**
+     * 将指定路径的图片进行Base64编码（gif/png/jpg/ico），并将data URI分块写入输出流，不在内存中保留完整的文件或编码内容
+     *
+     * @param path             图片路径
+     * @param originalFilename 原始文件名，用于识别图片类型
+     * @param out              输出流，如HTTP响应，写入完成后不关闭
+     * @throws IOException 读取文件或写入输出流发生错误时抛出的异常
+     */
+    public static void encodeImage(Path path, String originalFilename, OutputStream out) throws IOException {
+        if (!LocalFileUtils.exists(path)) {
+            throw new NotFoundFileException();
+        }
+        out.write(getImageDataUriPrefix(originalFilename).getBytes(StandardCharsets.US_ASCII));
+        try (InputStream in = Files.newInputStream(path)) {
+            encode(in, out);
+        }
+    }
+
+    /**
+     * 将指定路径的图片进行Base64编码（gif/png/jpg/ico），并将data URI分块写入字符输出流，不在内存中保留完整的文件或编码内容
+     *
+     * @param path             图片路径
+     * @param originalFilename 原始文件名，用于识别图片类型
+     * @param writer           字符输出流，写入完成后不关闭
+     * @throws IOException 读取文件或写入输出流发生错误时抛出的异常
+     */
+    public static void encodeImage(Path path, String originalFilename, Writer writer) throws IOException {
+        encodeImage(path, originalFilename, new AsciiWriterOutputStream(writer));
+    }
+
+    /**
+     * 获取图片的data URI前缀
+     *
+     * @param originalFilename 原始文件名
+     * @return 返回如data:image/png;base64,的前缀
+     */
+    private static String getImageDataUriPrefix(String originalFilename) {
         if (StringUtils.isNotBlank(originalFilename)) {
             String extName = StringUtils.substringAfterLast(originalFilename, ".");
 
@@ -67,18 +121,96 @@ public class Base64Utils {
             //data:image/jpeg;base64,base64编码的jpeg图片数据
             //data:image/x-icon;base64,base64编码的icon图片数据
             if(StringUtils.equalsAnyIgnoreCase(extName,EXTENSION_GIF)){
-                return "data:image/"+EXTENSION_GIF+";base64," + base64Content;
+                return "data:image/"+EXTENSION_GIF+";base64,";
             }
 
             if(StringUtils.equalsAnyIgnoreCase(extName,EXTENSION_JPEG) || StringUtils.equalsAnyIgnoreCase(extName,EXTENSION_JPG)){
-                return "data:image/"+EXTENSION_JPG+";base64," + base64Content;
+                return "data:image/"+EXTENSION_JPG+";base64,";
             }
             if(StringUtils.equalsAnyIgnoreCase(extName,EXTENSION_ICO)){
-                return "data:image/x-icon;base64," + base64Content;
+                return "data:image/x-icon;base64,";
             }
         }
 
-        return "data:image/png;base64," + base64Content;
+        return "data:image/png;base64,";
+    }
+
+    /**
+     * 将字节数组进行Base64编码
+     *
+     * @param bytes 需要编码的字节数组
+     * @return Base64编码后的字节数组（ASCII）
+     */
+    public static byte[] encode(byte[] bytes) {
+        return Base64.getUrlEncoder().encode(bytes);
+    }
+
+    /**
+     * 将字节数组进行Base64编码
+     *
+     * @param bytes 需要编码的字节数组
+     * @return Base64编码后的字符串
+     */
+    public static String encodeToString(byte[] bytes) {
+        return Base64.getUrlEncoder().encodeToString(bytes);
+    }
+
+    /**
+     * 将输入流分块进行Base64编码并写入输出流
+     *
+     * @param in  输入流，读取完成后不关闭
+     * @param out 输出流，写入完成后不关闭
+     * @throws IOException 读写发生错误时抛出的异常
+     */
+    public static void encode(InputStream in, OutputStream out) throws IOException {
+        Base64.Encoder encoder = Base64.getUrlEncoder();
+        byte[] buffer = new byte[ENCODE_CHUNK_SIZE];
+        byte[] encoded = new byte[ENCODE_CHUNK_SIZE / 3 * 4];
+        int length;
+        while ((length = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+            int encodedLength = length == buffer.length
+                ? encoder.encode(buffer, encoded)
+                : encoder.encode(Arrays.copyOf(buffer, length), encoded);
+            out.write(encoded, 0, encodedLength);
+        }
+        out.flush();
+    }
+
+    /**
+     * 将Base64编码的字节数组转为原始字节
+     *
+     * @param bytes Base64编码的字节数组（ASCII）
+     * @return 原始字节数组
+     */
+    public static byte[] decode(byte[] bytes) {
+        return Base64.getUrlDecoder().decode(bytes);
+    }
+
+    /**
+     * 将Base64编码字符串转为原始字节
+     *
+     * @param str Base64编码字符串
+     * @return 原始字节数组
+     */
+    public static byte[] decodeToBytes(String str) {
+        return Base64.getUrlDecoder().decode(str);
+    }
+
+    /**
+     * 将Base64编码的输入流分块解码并写入输出流
+     *
+     * @param in  Base64编码的输入流，读取完成后不关闭
+     * @param out 输出流，写入完成后不关闭
+     * @throws IOException 读写发生错误或编码不合法时抛出的异常
+     */
+    public static void decode(InputStream in, OutputStream out) throws IOException {
+        InputStream decoding = Base64.getUrlDecoder().wrap(in);
+        byte[] buffer = new byte[DECODE_CHUNK_SIZE];
+        int length;
+        while ((length = decoding.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+        out.flush();
     }
 
     /**
@@ -90,4 +222,39 @@ public class Base64Utils {
     public static String decode(String str) {
         return new String(Base64.getUrlDecoder().decode(str), StandardCharsets.UTF_8);
     }
+
+    /**
+     * 将Base64编码输出（ASCII）按字符写入Writer
+     */
+    private static final class AsciiWriterOutputStream extends OutputStream {
+
+        private final Writer writer;
+
+        private char[] chars = new char[0];
+
+        AsciiWriterOutputStream(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writer.write(b & 0xFF);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (chars.length < len) {
+                chars = new char[len];
+            }
+            for (int i = 0; i < len; i++) {
+                chars[i] = (char) (b[off + i] & 0xFF);
+            }
+            writer.write(chars, 0, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
 }
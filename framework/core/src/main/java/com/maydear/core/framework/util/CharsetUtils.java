@@ -15,11 +15,20 @@
  */
 package com.maydear.core.framework.util;
 
+import com.maydear.core.framework.io.CharsetTranscodeOptions;
+import com.maydear.core.framework.io.CharsetTranscoder;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * 字符集工具类
@@ -50,6 +59,21 @@ public class CharsetUtils {
         CHARSET_GBK = tempCharsetGbk;
     }
 
+    /**
+     * UTF-32BE
+     */
+    private static final Charset CHARSET_UTF_32BE = Charset.forName("UTF-32BE");
+
+    /**
+     * UTF-32LE
+     */
+    private static final Charset CHARSET_UTF_32LE = Charset.forName("UTF-32LE");
+
+    /**
+     * 探测字符集时读取的字节数
+     */
+    private static final int DETECT_SAMPLE_SIZE = 8 * 1024;
+
     /**
      * 静态类不应该被实例化
      */
@@ -182,4 +206,151 @@ public class CharsetUtils {
     public static Charset defaultCharset() {
         return Charset.defaultCharset();
     }
+
+    /**
+     * 流式转换通道数据的字符集，内存占用与数据大小无关，读取至源通道结束，不关闭通道
+     *
+     * @param source      源通道
+     * @param srcCharset  源字符集
+     * @param target      目标通道
+     * @param destCharset 目标字符集
+     * @throws IOException 读写发生错误或遇到无法处理的字符时抛出的异常
+     */
+    public static void transcode(ReadableByteChannel source, Charset srcCharset, WritableByteChannel target, Charset destCharset) throws IOException {
+        new CharsetTranscoder(srcCharset, destCharset).transcode(source, target);
+    }
+
+    /**
+     * 流式转换文件的字符集，内存占用与文件大小无关，目标文件已存在时将被覆盖
+     *
+     * @param source      源文件
+     * @param srcCharset  源字符集，开启探测时作为未探测到编码时的默认字符集
+     * @param target      目标文件
+     * @param destCharset 目标字符集
+     * @param options     转换选项
+     * @return 返回实际使用的源字符集
+     * @throws IOException 读写发生错误或遇到无法处理的字符时抛出的异常
+     */
+    public static Charset transcode(Path source, Charset srcCharset, Path target, Charset destCharset, CharsetTranscodeOptions options) throws IOException {
+        return new CharsetTranscoder(srcCharset, destCharset, options).transcode(source, target);
+    }
+
+    /**
+     * 根据文件开头的BOM及内容探测字符集
+     *
+     * @param path           文件路径
+     * @param defaultCharset 无法确定时返回的默认字符集
+     * @return 返回探测到的字符集
+     * @throws IOException 读取发生错误时抛出的异常
+     * @see #detect(ByteBuffer, Charset)
+     */
+    public static Charset detect(Path path, Charset defaultCharset) throws IOException {
+        ByteBuffer sample = ByteBuffer.allocate(DETECT_SAMPLE_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int read;
+            do {
+                read = channel.read(sample);
+            } while (read >= 0 && sample.hasRemaining());
+        }
+        sample.flip();
+        return detect(sample, defaultCharset);
+    }
+
+    /**
+     * 根据BOM及内容探测字符集，不改变缓冲区位置
+     * <p>
+     * 存在BOM时返回对应的UTF-8/UTF-16/UTF-32字符集；否则样本含多字节字符且是合法的UTF-8时返回UTF-8，其余情况返回默认字符集。
+     *
+     * @param sample         样本数据，从position到limit
+     * @param defaultCharset 无法确定时返回的默认字符集
+     * @return 返回探测到的字符集
+     */
+    public static Charset detect(ByteBuffer sample, Charset defaultCharset) {
+        Charset bomCharset = detectBom(sample);
+        if (bomCharset != null) {
+            return bomCharset;
+        }
+        return isLikelyUtf8(sample) ? StandardCharsets.UTF_8 : defaultCharset;
+    }
+
+    /**
+     * 根据BOM识别字符集，不改变缓冲区位置
+     *
+     * @param buffer 数据，从position开始
+     * @return 返回BOM对应的字符集，不存在BOM时返回null
+     */
+    public static Charset detectBom(ByteBuffer buffer) {
+        int position = buffer.position();
+        int remaining = buffer.remaining();
+        int b0 = remaining > 0 ? buffer.get(position) & 0xFF : -1;
+        int b1 = remaining > 1 ? buffer.get(position + 1) & 0xFF : -1;
+        int b2 = remaining > 2 ? buffer.get(position + 2) & 0xFF : -1;
+        int b3 = remaining > 3 ? buffer.get(position + 3) & 0xFF : -1;
+        if (b0 == 0xEF && b1 == 0xBB && b2 == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        if (b0 == 0x00 && b1 == 0x00 && b2 == 0xFE && b3 == 0xFF) {
+            return CHARSET_UTF_32BE;
+        }
+        if (b0 == 0xFF && b1 == 0xFE && b2 == 0x00 && b3 == 0x00) {
+            return CHARSET_UTF_32LE;
+        }
+        if (b0 == 0xFE && b1 == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (b0 == 0xFF && b1 == 0xFE) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return null;
+    }
+
+    /**
+     * 获取数据开头属于指定字符集的BOM长度
+     *
+     * @param buffer  数据，从position开始
+     * @param charset 字符集
+     * @return 返回BOM长度，不存在该字符集的BOM时返回0
+     */
+    public static int getBomLength(ByteBuffer buffer, Charset charset) {
+        if (!charset.equals(detectBom(buffer))) {
+            return 0;
+        }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return 3;
+        }
+        return CHARSET_UTF_32BE.equals(charset) || CHARSET_UTF_32LE.equals(charset) ? 4 : 2;
+    }
+
+    /**
+     * 样本是否含多字节字符且是合法的UTF-8，样本末尾被截断的字符视为合法
+     */
+    private static boolean isLikelyUtf8(ByteBuffer sample) {
+        boolean multiByte = false;
+        int limit = sample.limit();
+        int i = sample.position();
+        while (i < limit) {
+            int b = sample.get(i) & 0xFF;
+            int length;
+            if (b < 0x80) {
+                i++;
+                continue;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                length = 2;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                length = 3;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                length = 4;
+            } else {
+                return false;
+            }
+            for (int j = 1; j < length && i + j < limit; j++) {
+                if ((sample.get(i + j) & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            multiByte = true;
+            i += length;
+        }
+        return multiByte;
+    }
 }
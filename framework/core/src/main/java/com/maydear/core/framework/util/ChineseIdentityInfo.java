@@ -0,0 +1,87 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 身份证号码校验及解析结果
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class ChineseIdentityInfo implements Serializable {
+
+    private static final long serialVersionUID = 2791047726463197834L;
+
+    /**
+     * 不合法的身份证号码共用的结果
+     */
+    static final ChineseIdentityInfo INVALID = new ChineseIdentityInfo(false, 0, 0, 0L);
+
+    /**
+     * 是否合法
+     */
+    private final boolean valid;
+
+    /**
+     * 性别 (1: 男, 2: 女)，不合法时为0
+     */
+    private final int gender;
+
+    /**
+     * 省份编号，不合法时为0
+     */
+    private final int provinceCode;
+
+    /**
+     * 出生日期距1970-01-01的天数，不合法时为0
+     */
+    private final long birthdayEpochDay;
+
+    ChineseIdentityInfo(boolean valid, int gender, int provinceCode, long birthdayEpochDay) {
+        this.valid = valid;
+        this.gender = gender;
+        this.provinceCode = provinceCode;
+        this.birthdayEpochDay = birthdayEpochDay;
+    }
+
+    /**
+     * 获取所属省份名称
+     *
+     * @return 返回省份名称，不合法时返回null
+     */
+    public String getProvince() {
+        return valid ? ChineseIdentityUtils.getProvinceName(provinceCode) : null;
+    }
+
+    /**
+     * 获取出生日期
+     *
+     * @return 返回出生日期，不合法时返回null
+     */
+    public LocalDate getBirthdayDate() {
+        return valid ? LocalDate.ofEpochDay(birthdayEpochDay) : null;
+    }
+}
@@ -15,12 +15,11 @@
  */
 package com.maydear.core.framework.util;
 
-import org.apache.commons.lang3.StringUtils;
-
-import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * 身份证助手类
@@ -46,10 +45,6 @@ public class ChineseIdentityUtils {
      */
     private static final  int IDENTITY_LENGTH = 18;
 
-    /**
-     * 省份标志的长度
-     */
-    private static final  int IDENTITY_PROVINCE_LENGTH = 2;
     /**
      * 数字有效长度
      */
@@ -61,21 +56,34 @@ public class ChineseIdentityUtils {
     private static final  int BIRTHDAY_START_POSITION = 6;
 
     /**
-     * 出生日期的结束位置
+     * 性别标志位置
+     */
+    private static final  int GANDER_POSITION = 16;
+
+    /**
+     * 加权因子
      */
-    private static final  int BIRTHDAY_END_POSITION = 14;
+    private static final  int[] WEIGHT_FACTORS = new int[]{7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
     /**
-     * 生日格式
+     * 校验码，以10代表x
      */
-    private static final  String BIRTHDAY_PATTREN = "yyyyMMdd";
+    private static final  int[] CHECK_CODES = new int[]{1, 0, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+
     /**
-     * 模因子
+     * 各月天数（平年）
      */
-    private static final  int MOD_FACTOR = 11;
+    private static final  int[] DAYS_OF_MONTH = new int[]{0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
     /**
-     * 格式正则校验
+     * 0000-03-01至1970-01-01的天数
+     */
+    private static final  long DAYS_0000_TO_1970 = 719468L;
+
+    /**
+     * 模因子
      */
-    private static final  Pattern CHINESE_IDENTITY_PATTERN = Pattern.compile("^\\d{17}(\\d|x)$");
+    private static final  int MOD_FACTOR = 11;
 
     /**
      * 城市集
@@ -97,16 +105,7 @@ public class ChineseIdentityUtils {
      * @return 性别 (1: 男, 2: 女)
      */
     public static Integer getGander(String identityNo) {
-        if (!isValid(identityNo)) {
-            throw new IllegalArgumentException(ARGUMENT_EXCEPTION_MESSAGE);
-        }
-        int gander = Integer.parseInt(StringUtils.substring(identityNo, identityNo.length() - 2, identityNo.length() - 1));
-
-        if (gander % GANDER_FACTOR == 0) {
-            return 2;
-        } else {
-            return 1;
-        }
+        return validateOrThrow(identityNo).getGender();
     }
 
     /**
@@ -116,82 +115,160 @@ public class ChineseIdentityUtils {
      * @return 返回对应的省份，如果返回为null则该身份证号码存在异常
      */
     public static String getProvince(String identityNo) {
-        if (!isValid(identityNo)) {
-            throw new IllegalArgumentException(ARGUMENT_EXCEPTION_MESSAGE);
-        }
-        return PROVINCE_SET[getProvinceIndex(identityNo)];
+        return validateOrThrow(identityNo).getProvince();
     }
 
     /**
      * 获取身份证中的出生日期
      *
      * @param identityNo 身份证号
-     * @return 返回出生日期
+     * @return 返回出生日期（系统时区零点）
      */
     public static Date getBirthday(String identityNo) {
-        if (!isValid(identityNo)) {
-            throw new IllegalArgumentException(ARGUMENT_EXCEPTION_MESSAGE);
-        }
-
-        String birthdayString = identityNo.substring(BIRTHDAY_START_POSITION, BIRTHDAY_END_POSITION);
-        try {
-            return org.apache.commons.lang3.time.DateUtils.parseDate(birthdayString, BIRTHDAY_PATTREN);
-        } catch (ParseException e) {
-            return null;
-        }
+        LocalDate birthday = validateOrThrow(identityNo).getBirthdayDate();
+        return Date.from(birthday.atStartOfDay(ZoneId.systemDefault()).toInstant());
     }
 
     /**
-     * 获取省份编号
+     * 校验是否合法中国身份证号（18位）
      *
-     * @param identityNo 身份证号
-     * @return 省份编号
+     * @param identityNo 待验证的中国身份证号
+     * @return 返回一个Boolean类型，验证通过合法则返回true，反之则为false
      */
-    private static int getProvinceIndex(String identityNo) {
-        return Integer.parseInt(StringUtils.left(identityNo, IDENTITY_PROVINCE_LENGTH));
+    public static boolean isValid(String identityNo) {
+        return validate(identityNo).isValid();
     }
 
-
     /**
-     * 校验是否合法中国身份证号（18位）
+     * 单次遍历校验并解析身份证号（18位），同时校验格式、省份编号、出生日期及校验码，校验过程不产生中间对象
      *
      * @param identityNo 待验证的中国身份证号
-     * @return 返回一个Boolean类型，验证通过合法则返回true，反之则为false
+     * @return 返回校验及解析结果，不合法时{@link ChineseIdentityInfo#isValid()}为false
      */
-    public static boolean isValid(String identityNo) {
-
+    public static ChineseIdentityInfo validate(String identityNo) {
         //不满18位
-        if (identityNo.length() != IDENTITY_LENGTH) {
-            return false;
+        if (identityNo == null || identityNo.length() != IDENTITY_LENGTH) {
+            return ChineseIdentityInfo.INVALID;
         }
 
-        identityNo = StringUtils.lowerCase(identityNo.replace('Ｘ', 'x').replace('ｘ', 'x'));
+        int sum = 0;
+        //只取前17位
+        for (int i = 0; i < IDENTITY_EFFECTIVE_POSITION; i++) {
+            int digit = identityNo.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return ChineseIdentityInfo.INVALID;
+            }
+            sum += digit * WEIGHT_FACTORS[i];
+        }
 
-        Matcher matcher = CHINESE_IDENTITY_PATTERN.matcher(identityNo);
-        if (!matcher.matches()) {
-            return false;
+        int checkCode = toCheckCode(identityNo.charAt(IDENTITY_EFFECTIVE_POSITION));
+        if (checkCode < 0 || checkCode != CHECK_CODES[sum % MOD_FACTOR]) {
+            return ChineseIdentityInfo.INVALID;
         }
 
-        if (PROVINCE_SET[getProvinceIndex(identityNo)] == null) {
-            return false;
+        int provinceCode = digitsAt(identityNo, 0, 2);
+        if (getProvinceName(provinceCode) == null) {
+            return ChineseIdentityInfo.INVALID;
         }
-        String birthdayString = identityNo.substring(BIRTHDAY_START_POSITION, BIRTHDAY_END_POSITION);
-        if (!DateExtensionUtils.isValidDate(birthdayString, BIRTHDAY_PATTREN)) {
-            return false;
+
+        int year = digitsAt(identityNo, BIRTHDAY_START_POSITION, 4);
+        int month = digitsAt(identityNo, BIRTHDAY_START_POSITION + 4, 2);
+        int day = digitsAt(identityNo, BIRTHDAY_START_POSITION + 6, 2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return ChineseIdentityInfo.INVALID;
         }
 
-        int[] wi = new int[]{7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2, 1};
-        char[] checkCode = new char[]{'1', '0', 'x', '9', '8', '7', '6', '5', '4', '3', '2'};
+        int gander = (identityNo.charAt(GANDER_POSITION) - '0') % GANDER_FACTOR == 0 ? 2 : 1;
+        return new ChineseIdentityInfo(true, gander, provinceCode, toEpochDay(year, month, day));
+    }
 
-        int sum = 0;
+    /**
+     * 并行批量校验并解析身份证号
+     *
+     * @param identityNos 待验证的中国身份证号
+     * @return 返回与参数顺序一致的校验及解析结果
+     */
+    public static ChineseIdentityInfo[] validateAll(String[] identityNos) {
+        ChineseIdentityInfo[] results = new ChineseIdentityInfo[identityNos.length];
+        Arrays.parallelSetAll(results, i -> validate(identityNos[i]));
+        return results;
+    }
 
-        //只取前17位
-        for (int i = 0; i < identityNo.length() - 1; i++) {
-            sum += Integer.parseInt(String.valueOf(identityNo.charAt(i))) * wi[i];
+    /**
+     * 并行批量校验并解析身份证号
+     *
+     * @param identityNos 待验证的中国身份证号
+     * @return 返回并行的校验及解析结果流，有序流的结果保持原顺序
+     */
+    public static Stream<ChineseIdentityInfo> validateAll(Stream<String> identityNos) {
+        return identityNos.parallel().map(ChineseIdentityUtils::validate);
+    }
+
+    /**
+     * 获取省份名称
+     *
+     * @param provinceCode 省份编号
+     * @return 返回省份名称，编号不存在时返回null
+     */
+    static String getProvinceName(int provinceCode) {
+        if (provinceCode < 0 || provinceCode >= PROVINCE_SET.length) {
+            return null;
         }
+        return PROVINCE_SET[provinceCode];
+    }
 
-        int mod = sum % MOD_FACTOR;
+    /**
+     * 校验并解析，不合法时抛出异常
+     */
+    private static ChineseIdentityInfo validateOrThrow(String identityNo) {
+        ChineseIdentityInfo info = validate(identityNo);
+        if (!info.isValid()) {
+            throw new IllegalArgumentException(ARGUMENT_EXCEPTION_MESSAGE);
+        }
+        return info;
+    }
+
+    /**
+     * 转换校验码，x（含全角）为10，非法字符返回-1
+     */
+    private static int toCheckCode(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c == 'x' || c == 'X' || c == 'ｘ' || c == 'Ｘ') {
+            return 10;
+        }
+        return -1;
+    }
 
-        return identityNo.charAt(IDENTITY_EFFECTIVE_POSITION) == checkCode[mod];
+    /**
+     * 读取指定位置的数字，调用前须确保均为数字
+     */
+    private static int digitsAt(String identityNo, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            value = value * 10 + identityNo.charAt(i) - '0';
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+            return 29;
+        }
+        return DAYS_OF_MONTH[month];
+    }
+
+    /**
+     * 计算距1970-01-01的天数，结果与{@link LocalDate#toEpochDay()}一致
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        int shiftedMonth = month > 2 ? month - 3 : month + 9;
+        long dayOfYear = (153L * shiftedMonth + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - DAYS_0000_TO_1970;
     }
 }
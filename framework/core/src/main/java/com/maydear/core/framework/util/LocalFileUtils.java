@@ -19,12 +19,15 @@ import com.maydear.core.framework.exception.FailedCopyFileException;
 import com.maydear.core.framework.exception.FailedReadFileException;
 import com.maydear.core.framework.exception.FailedWriteFileException;
 import com.maydear.core.framework.exception.NotFoundFileException;
-import org.apache.commons.codec.digest.DigestUtils;
+import com.maydear.core.framework.crypto.CryptoEngine;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * 本地磁盘文件工具类
@@ -203,15 +206,27 @@ public class LocalFileUtils {
      * @return
      */
     public static String getMd5(Path path) {
-        try {
-            if (path.toFile().isFile()) {
-                return DigestUtils.md5Hex(Files.newInputStream(path, StandardOpenOption.READ));
-            }
+        return getDigestHex(path, MessageDigestAlgorithms.MD5);
+    }
+
+    /**
+     * 获取文件摘要的十六进制字符串，大量文件请使用{@link com.maydear.core.framework.io.BulkDigestService}
+     *
+     * @param path      文件路径
+     * @param algorithm 摘要算法，如MD5、SHA-256
+     * @return 返回十六进制摘要，路径不是文件时返回空字符串
+     */
+    public static String getDigestHex(Path path, String algorithm) {
+        if (!path.toFile().isFile()) {
             return StringUtils.EMPTY;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return Hex.encodeHexString(CryptoEngine.digest(algorithm, channel));
         } catch (IOException e) {
             throw new NotFoundFileException();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
         }
-
     }
 
 }
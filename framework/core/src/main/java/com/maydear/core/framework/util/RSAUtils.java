@@ -15,21 +15,29 @@
  */
 package com.maydear.core.framework.util;
 
-import java.io.ByteArrayOutputStream;
-import java.security.KeyFactory;
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.PrivateKey;
-import java.security.PublicKey;
-import java.security.Signature;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
-import javax.crypto.Cipher;
-
+import com.maydear.core.framework.crypto.RsaKeyRegistry;
 import org.apache.commons.codec.binary.Base64;
 
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.RSAKey;
+import java.util.*;
+
 /**
  * RSA工具类
+ * <p>
+ * 字符串形式的密钥经{@link RsaKeyRegistry}解析一次后缓存；{@link Cipher}与{@link Signature}按填充方式或签名算法在每个线程内复用，
+ * 同一线程连续使用相同的密钥时跳过重复的初始化。分段加密的块大小按密钥模长计算，支持2048位及以上的密钥。
+ * </p>
+ * <p>
+ * 字符串形式的明文及签名原文一律按UTF-8编码，与解密结果的解码方式一致。早期版本加密、签名及验签使用平台默认字符集，
+ * 在默认字符集不是UTF-8的环境中，旧版本对非ASCII内容生成的签名需要以{@code byte[]}重载按原字符集编码后验证。
+ * </p>
  *
  * @author kelvin.liang
  * @version 1.0.0
@@ -37,14 +45,25 @@ import org.apache.commons.codec.binary.Base64;
 public class RSAUtils {
 
     /**
-     * RSA最大加密明文大小
+     * 默认密钥长度
      */
-    private static final int MAX_ENCRYPT_BLOCK = 117;
+    public static final int DEFAULT_KEY_SIZE = 2048;
 
     /**
-     * RSA最大解密密文大小
+     * 最小密钥长度
      */
-    private static final int MAX_DECRYPT_BLOCK = 128;
+    public static final int MIN_KEY_SIZE = 2048;
+
+    private static final ThreadLocal<Map<RsaPadding, CipherHolder>> CIPHERS = ThreadLocal.withInitial(() -> new EnumMap<>(RsaPadding.class));
+
+    private static final ThreadLocal<Map<RsaSignatureAlgorithm, SignatureHolder>> SIGNATURES = ThreadLocal.withInitial(() -> new EnumMap<>(RsaSignatureAlgorithm.class));
+
+    /**
+     * 静态工具类不应该被实例化
+     */
+    private RSAUtils() {
+        throw new IllegalStateException("Utility class");
+    }
 
     /**
      * 获取密钥对
@@ -52,68 +71,65 @@ public class RSAUtils {
      * @return 密钥对
      */
     public static KeyPair getKeyPair() throws Exception {
+        return getKeyPair(DEFAULT_KEY_SIZE);
+    }
+
+    /**
+     * 获取指定长度的密钥对
+     *
+     * @param keySize 密钥长度，不小于{@link #MIN_KEY_SIZE}
+     * @return 密钥对
+     */
+    public static KeyPair getKeyPair(int keySize) throws NoSuchAlgorithmException {
+        if (keySize < MIN_KEY_SIZE) {
+            throw new IllegalArgumentException("RSA key size must be at least " + MIN_KEY_SIZE);
+        }
         KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
-        generator.initialize(1024);
+        generator.initialize(keySize);
         return generator.generateKeyPair();
     }
 
     /**
      * 获取私钥
      *
-     * @param privateKey 私钥字符串
-     * @return 从私钥字符串中获取公钥
+     * @param privateKey 私钥字符串（PEM或Base64）
+     * @return 从私钥字符串中获取私钥
      */
     public static PrivateKey getPrivateKey(String privateKey) throws Exception {
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-        byte[] decodedKey = Base64.decodeBase64(privateKey.getBytes());
-        PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(decodedKey);
-        return keyFactory.generatePrivate(keySpec);
+        return RsaKeyRegistry.getPrivateKey(privateKey);
     }
 
     /**
      * 获取公钥
      *
-     * @param publicKey 公钥字符串
+     * @param publicKey 公钥字符串（PEM或Base64）
      * @return 从公钥字符中获取公钥
      */
     public static PublicKey getPublicKey(String publicKey) throws Exception {
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-        byte[] decodedKey = Base64.decodeBase64(publicKey.getBytes());
-        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decodedKey);
-        return keyFactory.generatePublic(keySpec);
+        return RsaKeyRegistry.getPublicKey(publicKey);
     }
 
     /**
-     * RSA加密
+     * RSA加密（PKCS#1 v1.5）
      *
      * @param data      待加密数据
      * @param publicKey 公钥
      * @return 返回BASE64编码密文
      */
     public static String encrypt(final String data, final PublicKey publicKey) throws Exception {
-        Cipher cipher = Cipher.getInstance("RSA");
-        cipher.init(Cipher.ENCRYPT_MODE, publicKey);
-        int inputLen = data.getBytes().length;
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        int offset = 0;
-        byte[] cache;
-        int i = 0;
-        // 对数据分段加密
-        while (inputLen - offset > 0) {
-            if (inputLen - offset > MAX_ENCRYPT_BLOCK) {
-                cache = cipher.doFinal(data.getBytes(), offset, MAX_ENCRYPT_BLOCK);
-            } else {
-                cache = cipher.doFinal(data.getBytes(), offset, inputLen - offset);
-            }
-            out.write(cache, 0, cache.length);
-            i++;
-            offset = i * MAX_ENCRYPT_BLOCK;
-        }
-        byte[] encryptedData = out.toByteArray();
-        out.close();
-        // 获取加密内容使用base64进行编码,并以UTF-8为标准转化成字符串
-        // 加密后的字符串
-        return new String(Base64.encodeBase64String(encryptedData));
+        return encrypt(data, publicKey, RsaPadding.PKCS1);
+    }
+
+    /**
+     * RSA加密
+     *
+     * @param data      待加密数据
+     * @param publicKey 公钥
+     * @param padding   填充方式
+     * @return 返回BASE64编码密文
+     */
+    public static String encrypt(final String data, final PublicKey publicKey, RsaPadding padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        return Base64.encodeBase64String(encrypt(data.getBytes(StandardCharsets.UTF_8), publicKey, padding));
     }
 
     /**
@@ -129,36 +145,43 @@ public class RSAUtils {
     }
 
     /**
-     * RSA解密
+     * RSA分段加密，每段明文长度为模长减去填充开销
+     *
+     * @param data      待加密数据
+     * @param publicKey 公钥
+     * @param padding   填充方式
+     * @return 返回密文
+     */
+    public static byte[] encrypt(final byte[] data, final PublicKey publicKey, RsaPadding padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        int modulusLength = getModulusLength(publicKey);
+        int blockSize = modulusLength - padding.getOverhead();
+        int blocks = (data.length + blockSize - 1) / blockSize;
+        byte[] result = new byte[blocks * modulusLength];
+        int length = crypt(padding, Cipher.ENCRYPT_MODE, publicKey, data, blockSize, result);
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    /**
+     * RSA解密（PKCS#1 v1.5）
      *
      * @param data       待解密数据
      * @param privateKey 私钥
      * @return 返回解密后的数据
      */
     public static String decrypt(final String data,final PrivateKey privateKey) throws Exception {
-        Cipher cipher = Cipher.getInstance("RSA");
-        cipher.init(Cipher.DECRYPT_MODE, privateKey);
-        byte[] dataBytes = Base64.decodeBase64(data);
-        int inputLen = dataBytes.length;
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        int offset = 0;
-        byte[] cache;
-        int i = 0;
-        // 对数据分段解密
-        while (inputLen - offset > 0) {
-            if (inputLen - offset > MAX_DECRYPT_BLOCK) {
-                cache = cipher.doFinal(dataBytes, offset, MAX_DECRYPT_BLOCK);
-            } else {
-                cache = cipher.doFinal(dataBytes, offset, inputLen - offset);
-            }
-            out.write(cache, 0, cache.length);
-            i++;
-            offset = i * MAX_DECRYPT_BLOCK;
-        }
-        byte[] decryptedData = out.toByteArray();
-        out.close();
-        // 解密后的内容
-        return new String(decryptedData, "UTF-8");
+        return decrypt(data, privateKey, RsaPadding.PKCS1);
+    }
+
+    /**
+     * RSA解密
+     *
+     * @param data       BASE64编码的待解密数据
+     * @param privateKey 私钥
+     * @param padding    填充方式
+     * @return 返回解密后的数据
+     */
+    public static String decrypt(final String data, final PrivateKey privateKey, RsaPadding padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        return new String(decrypt(Base64.decodeBase64(data), privateKey, padding), StandardCharsets.UTF_8);
     }
 
     /**
@@ -174,25 +197,90 @@ public class RSAUtils {
     }
 
     /**
-     * 签名
+     * RSA分段解密，每段密文长度为模长
+     *
+     * @param data       待解密数据
+     * @param privateKey 私钥
+     * @param padding    填充方式
+     * @return 返回解密后的数据
+     */
+    public static byte[] decrypt(final byte[] data, final PrivateKey privateKey, RsaPadding padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        int modulusLength = getModulusLength(privateKey);
+        // 明文不会长于密文，另留一块空间以满足Cipher对输出缓冲区的长度检查
+        byte[] result = new byte[data.length + modulusLength];
+        int length = crypt(padding, Cipher.DECRYPT_MODE, privateKey, data, modulusLength, result);
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * 签名（MD5withRSA）
      *
      * @param data       待签名数据
      * @param privateKey 私钥
      * @return 签名
      */
     public static String sign(String data, PrivateKey privateKey) throws Exception {
-        byte[] keyBytes = privateKey.getEncoded();
-        PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-        PrivateKey key = keyFactory.generatePrivate(keySpec);
-        Signature signature = Signature.getInstance("MD5withRSA");
-        signature.initSign(key);
-        signature.update(data.getBytes());
-        return new String(Base64.encodeBase64(signature.sign()));
+        return sign(data, privateKey, RsaSignatureAlgorithm.MD5_WITH_RSA);
     }
 
     /**
-     * 验签
+     * 签名
+     *
+     * @param data       待签名数据
+     * @param privateKey 私钥
+     * @param algorithm  签名算法
+     * @return 返回BASE64编码的签名
+     */
+    public static String sign(String data, PrivateKey privateKey, RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, SignatureException {
+        return Base64.encodeBase64String(sign(data.getBytes(StandardCharsets.UTF_8), privateKey, algorithm));
+    }
+
+    /**
+     * 签名
+     *
+     * @param data       待签名数据
+     * @param privateKey 私钥
+     * @param algorithm  签名算法
+     * @return 返回签名
+     */
+    public static byte[] sign(byte[] data, PrivateKey privateKey, RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, SignatureException {
+        SignatureHolder holder = getSignature(algorithm);
+        holder.initSign(privateKey);
+        try {
+            holder.signature.update(data);
+            return holder.signature.sign();
+        } catch (SignatureException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+    }
+
+    /**
+     * 批量签名，所有数据共用一次签名初始化
+     *
+     * @param data       待签名数据
+     * @param privateKey 私钥
+     * @param algorithm  签名算法
+     * @return 返回与数据顺序一致的BASE64编码签名
+     */
+    public static List<String> signAll(Collection<String> data, PrivateKey privateKey, RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, SignatureException {
+        SignatureHolder holder = getSignature(algorithm);
+        holder.initSign(privateKey);
+        List<String> signs = new ArrayList<>(data.size());
+        try {
+            for (String item : data) {
+                holder.signature.update(item.getBytes(StandardCharsets.UTF_8));
+                signs.add(Base64.encodeBase64String(holder.signature.sign()));
+            }
+        } catch (SignatureException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+        return signs;
+    }
+
+    /**
+     * 验签（MD5withRSA）
      *
      * @param srcData   原始字符串
      * @param publicKey 公钥
@@ -200,13 +288,203 @@ public class RSAUtils {
      * @return 是否验签通过
      */
     public static boolean verify(String srcData, PublicKey publicKey, String sign) throws Exception {
-        byte[] keyBytes = publicKey.getEncoded();
-        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-        PublicKey key = keyFactory.generatePublic(keySpec);
-        Signature signature = Signature.getInstance("MD5withRSA");
-        signature.initVerify(key);
-        signature.update(srcData.getBytes());
-        return signature.verify(Base64.decodeBase64(sign.getBytes()));
+        return verify(srcData, publicKey, sign, RsaSignatureAlgorithm.MD5_WITH_RSA);
+    }
+
+    /**
+     * 验签
+     *
+     * @param srcData   原始字符串
+     * @param publicKey 公钥
+     * @param sign      BASE64编码的签名
+     * @param algorithm 签名算法
+     * @return 是否验签通过
+     */
+    public static boolean verify(String srcData, PublicKey publicKey, String sign, RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, SignatureException {
+        return verify(srcData.getBytes(StandardCharsets.UTF_8), publicKey, Base64.decodeBase64(sign), algorithm);
+    }
+
+    /**
+     * 验签
+     *
+     * @param data      原始数据
+     * @param publicKey 公钥
+     * @param sign      签名
+     * @param algorithm 签名算法
+     * @return 是否验签通过
+     */
+    public static boolean verify(byte[] data, PublicKey publicKey, byte[] sign, RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, SignatureException {
+        SignatureHolder holder = getSignature(algorithm);
+        holder.initVerify(publicKey);
+        try {
+            holder.signature.update(data);
+            return holder.signature.verify(sign);
+        } catch (SignatureException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+    }
+
+    /**
+     * 批量验签，所有数据共用一次验签初始化
+     *
+     * @param data      原始字符串
+     * @param signs     与原始字符串顺序一致的BASE64编码签名
+     * @param publicKey 公钥
+     * @param algorithm 签名算法
+     * @return 返回与数据顺序一致的验签结果，签名格式无效的项验签不通过
+     */
+    public static boolean[] verifyAll(List<String> data, List<String> signs, PublicKey publicKey, RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException {
+        if (data.size() != signs.size()) {
+            throw new IllegalArgumentException("data and signs must have the same size");
+        }
+        SignatureHolder holder = getSignature(algorithm);
+        holder.initVerify(publicKey);
+        boolean[] results = new boolean[data.size()];
+        for (int i = 0; i < results.length; i++) {
+            try {
+                holder.signature.update(data.get(i).getBytes(StandardCharsets.UTF_8));
+                results[i] = holder.signature.verify(Base64.decodeBase64(signs.get(i)));
+            } catch (SignatureException e) {
+                // 签名格式无效，重新初始化后继续验证下一项
+                results[i] = false;
+                holder.invalidate();
+                holder.initVerify(publicKey);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 获取密钥模长（字节）
+     *
+     * @param key RSA密钥
+     * @return 返回模长
+     */
+    public static int getModulusLength(Key key) {
+        if (!(key instanceof RSAKey)) {
+            throw new IllegalArgumentException("Not an RSA key");
+        }
+        return (((RSAKey) key).getModulus().bitLength() + 7) / 8;
+    }
+
+    /**
+     * 使用线程内复用的Cipher分段处理
+     *
+     * @return 返回写入结果的字节数
+     */
+    private static int crypt(RsaPadding padding, int opmode, Key key, byte[] data, int blockSize, byte[] result) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        CipherHolder holder = getCipher(padding);
+        holder.init(opmode, key);
+        int length = 0;
+        try {
+            for (int offset = 0; offset < data.length; offset += blockSize) {
+                length += holder.cipher.doFinal(data, offset, Math.min(blockSize, data.length - offset), result, length);
+            }
+        } catch (ShortBufferException e) {
+            holder.invalidate();
+            throw new IllegalStateException(e);
+        } catch (BadPaddingException | IllegalBlockSizeException | RuntimeException e) {
+            holder.invalidate();
+            throw e;
+        }
+        return length;
+    }
+
+    private static CipherHolder getCipher(RsaPadding padding) throws NoSuchPaddingException, NoSuchAlgorithmException {
+        Map<RsaPadding, CipherHolder> ciphers = CIPHERS.get();
+        CipherHolder holder = ciphers.get(padding);
+        if (holder == null) {
+            holder = new CipherHolder(Cipher.getInstance(padding.getName()), padding);
+            ciphers.put(padding, holder);
+        }
+        return holder;
+    }
+
+    private static SignatureHolder getSignature(RsaSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+        Map<RsaSignatureAlgorithm, SignatureHolder> signatures = SIGNATURES.get();
+        SignatureHolder holder = signatures.get(algorithm);
+        if (holder == null) {
+            Signature signature = Signature.getInstance(algorithm.getName());
+            if (algorithm.getParameterSpec() != null) {
+                signature.setParameter(algorithm.getParameterSpec());
+            }
+            holder = new SignatureHolder(signature);
+            signatures.put(algorithm, holder);
+        }
+        return holder;
+    }
+
+    /**
+     * 线程内复用的Cipher及其当前密钥，doFinal完成后Cipher回到初始化后的状态
+     */
+    private static final class CipherHolder {
+
+        private final Cipher cipher;
+
+        private final RsaPadding padding;
+
+        private Key key;
+
+        private int opmode;
+
+        private CipherHolder(Cipher cipher, RsaPadding padding) {
+            this.cipher = cipher;
+            this.padding = padding;
+        }
+
+        private void init(int opmode, Key key) throws InvalidAlgorithmParameterException, InvalidKeyException {
+            if (this.key == key && this.opmode == opmode) {
+                return;
+            }
+            invalidate();
+            if (padding.getParameterSpec() == null) {
+                cipher.init(opmode, key);
+            } else {
+                cipher.init(opmode, key, padding.getParameterSpec());
+            }
+            this.key = key;
+            this.opmode = opmode;
+        }
+
+        private void invalidate() {
+            this.key = null;
+        }
+    }
+
+    /**
+     * 线程内复用的Signature及其当前密钥，sign或verify完成后Signature回到初始化后的状态
+     */
+    private static final class SignatureHolder {
+
+        private final Signature signature;
+
+        private Key key;
+
+        private SignatureHolder(Signature signature) {
+            this.signature = signature;
+        }
+
+        private void initSign(PrivateKey privateKey) throws InvalidKeyException {
+            if (this.key == privateKey) {
+                return;
+            }
+            invalidate();
+            signature.initSign(privateKey);
+            this.key = privateKey;
+        }
+
+        private void initVerify(PublicKey publicKey) throws InvalidKeyException {
+            if (this.key == publicKey) {
+                return;
+            }
+            invalidate();
+            signature.initVerify(publicKey);
+            this.key = publicKey;
+        }
+
+        private void invalidate() {
+            this.key = null;
+        }
     }
 }
\ No newline at end of file
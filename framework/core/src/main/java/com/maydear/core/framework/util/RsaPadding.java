@@ -0,0 +1,70 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.util;
+
+import lombok.Getter;
+
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.MGF1ParameterSpec;
+
+/**
+ * RSA加密填充方式
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+public enum RsaPadding {
+
+    /**
+     * PKCS#1 v1.5
+     */
+    PKCS1(1, "RSA/ECB/PKCS1Padding", 11, null),
+
+    /**
+     * OAEP，摘要与MGF1均使用SHA-256
+     */
+    OAEP_SHA256(2, "RSA/ECB/OAEPPadding", 66, new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+
+    /**
+     * 填充值
+     */
+    private int value;
+
+    /**
+     * 转换名称
+     */
+    private String name;
+
+    /**
+     * 每块明文的填充开销（字节），单块最大明文长度为模长减去该值
+     */
+    private int overhead;
+
+    /**
+     * 填充参数，为空时使用默认参数
+     */
+    private AlgorithmParameterSpec parameterSpec;
+
+    RsaPadding(int value, String name, int overhead, AlgorithmParameterSpec parameterSpec) {
+        this.value = value;
+        this.name = name;
+        this.overhead = overhead;
+        this.parameterSpec = parameterSpec;
+    }
+}
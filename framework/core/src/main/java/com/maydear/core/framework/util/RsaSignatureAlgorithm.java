@@ -0,0 +1,68 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.util;
+
+import lombok.Getter;
+
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+
+/**
+ * RSA签名算法
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+public enum RsaSignatureAlgorithm {
+
+    /**
+     * MD5withRSA，仅用于兼容旧签名
+     */
+    MD5_WITH_RSA(1, "MD5withRSA", null),
+
+    /**
+     * SHA256withRSA（PKCS#1 v1.5）
+     */
+    SHA256_WITH_RSA(2, "SHA256withRSA", null),
+
+    /**
+     * RSASSA-PSS，摘要与MGF1均使用SHA-256，盐长度32字节
+     */
+    SHA256_WITH_RSA_PSS(3, "RSASSA-PSS", new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1));
+
+    /**
+     * 算法值
+     */
+    private int value;
+
+    /**
+     * 算法名称
+     */
+    private String name;
+
+    /**
+     * 签名参数，为空时使用默认参数
+     */
+    private AlgorithmParameterSpec parameterSpec;
+
+    RsaSignatureAlgorithm(int value, String name, AlgorithmParameterSpec parameterSpec) {
+        this.value = value;
+        this.name = name;
+        this.parameterSpec = parameterSpec;
+    }
+}
@@ -17,8 +17,13 @@ package com.maydear.core.framework.util;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.regex.Matcher;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * 正则表达式校验工具类
@@ -53,6 +58,32 @@ public class StringPatternValidUtils {
      */
     public static final String REGEX_IP_ADDR = "^(1\\d{2}|2[0-4]\\d|25[0-5]|[1-9]\\d|[1-9])\\.(1\\d{2}|2[0-4]\\d|25[0-5]|[1-9]\\d|\\d)\\.(1\\d{2}|2[0-4]\\d|25[0-5]|[1-9]\\d|\\d)\\.(1\\d{2}|2[0-4]\\d|25[0-5]|[1-9]\\d|\\d)$";
 
+    private static final Pattern PATTERN_EMAIL = Pattern.compile(REGEX_EMAIL);
+
+    private static final Pattern PATTERN_URL = Pattern.compile(REGEX_URL);
+
+    /**
+     * 手机号长度
+     */
+    private static final int MOBILE_LENGTH = 11;
+
+    /**
+     * 手机号第三位的允许取值，按第二位索引，第n位为1表示允许数字n，与{@link #REGEX_MOBILE}的号段一致
+     */
+    private static final int[] MOBILE_SEGMENTS = {0, 0, 0, 0x3FF, 0x3FF, 0x3EF, 0x040, 0x1E9, 0x3FF, 0x300};
+
+    /**
+     * IPv4地址段数
+     */
+    private static final int IP_ADDR_OCTETS = 4;
+
+    private static final int IP_ADDR_OCTET_MAX = 255;
+
+    /**
+     * 批量校验时低于该数量不并行
+     */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
     /**
      * 手机号验证
      *
@@ -63,9 +94,21 @@ public class StringPatternValidUtils {
         if (StringUtils.isBlank(mobile)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(REGEX_MOBILE);
-        Matcher matcher = pattern.matcher(mobile);
-        return matcher.matches();
+        int length = mobile.length();
+        if (length != MOBILE_LENGTH || mobile.charAt(0) != '1') {
+            return false;
+        }
+        int second = mobile.charAt(1) - '0';
+        int third = mobile.charAt(2) - '0';
+        if (second < 0 || second > 9 || third < 0 || third > 9 || (MOBILE_SEGMENTS[second] & (1 << third)) == 0) {
+            return false;
+        }
+        for (int i = 3; i < length; i++) {
+            if (!isDigit(mobile.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -78,9 +121,7 @@ public class StringPatternValidUtils {
         if (StringUtils.isBlank(email)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(REGEX_EMAIL);
-        Matcher matcher = pattern.matcher(email);
-        return matcher.matches();
+        return PATTERN_EMAIL.matcher(email).matches();
     }
 
     /**
@@ -93,9 +134,7 @@ public class StringPatternValidUtils {
         if (StringUtils.isBlank(url)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(REGEX_URL);
-        Matcher matcher = pattern.matcher(url);
-        return matcher.matches();
+        return PATTERN_URL.matcher(url).matches();
     }
 
     /**
@@ -108,11 +147,9 @@ public class StringPatternValidUtils {
         if (StringUtils.isBlank(chinese)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(REGEX_CHINESE);
-        char[] c = chinese.toCharArray();
-        for (char value : c) {
-            Matcher matcher = pattern.matcher(String.valueOf(value));
-            if (matcher.matches()) {
+        for (int i = 0, length = chinese.length(); i < length; i++) {
+            char value = chinese.charAt(i);
+            if (value >= '\u4e00' && value <= '\u9fa5') {
                 return true;
             }
         }
@@ -129,8 +166,92 @@ public class StringPatternValidUtils {
         if (StringUtils.isBlank(ipAddress)) {
             return false;
         }
-        Pattern patten = Pattern.compile(REGEX_IP_ADDR);
-        Matcher matcher = patten.matcher(ipAddress);
-        return matcher.matches();
+        int length = ipAddress.length();
+        int position = 0;
+        for (int octet = 0; octet < IP_ADDR_OCTETS; octet++) {
+            if (octet > 0) {
+                if (position >= length || ipAddress.charAt(position) != '.') {
+                    return false;
+                }
+                position++;
+            }
+            int start = position;
+            int value = 0;
+            while (position < length && position - start < 3 && isDigit(ipAddress.charAt(position))) {
+                value = value * 10 + ipAddress.charAt(position) - '0';
+                position++;
+            }
+            int digits = position - start;
+            if (digits == 0 || value > IP_ADDR_OCTET_MAX || (digits > 1 && ipAddress.charAt(start) == '0') || (octet == 0 && value == 0)) {
+                return false;
+            }
+        }
+        return position == length;
+    }
+
+    /**
+     * 批量手机号验证
+     *
+     * @param mobiles 手机号列表
+     * @return 返回校验结果位图，第i位为1表示第i个手机号验证通过
+     */
+    public static BitSet validMobiles(final List<String> mobiles) {
+        return validAll(mobiles, StringPatternValidUtils::validMobile);
+    }
+
+    /**
+     * 批量邮箱验证
+     *
+     * @param emails 邮箱列表
+     * @return 返回校验结果位图，第i位为1表示第i个邮箱验证通过
+     */
+    public static BitSet validEmails(final List<String> emails) {
+        return validAll(emails, StringPatternValidUtils::validEmail);
+    }
+
+    /**
+     * 批量ip地址验证
+     *
+     * @param ipAddresses ip地址列表
+     * @return 返回校验结果位图，第i位为1表示第i个ip地址验证通过
+     */
+    public static BitSet validIpAddresses(final List<String> ipAddresses) {
+        return validAll(ipAddresses, StringPatternValidUtils::validIpAddress);
+    }
+
+    /**
+     * 批量验证，数量较多时按64个一组并行验证
+     *
+     * @param values    待验证的字符串列表
+     * @param validator 验证方法，须线程安全
+     * @return 返回校验结果位图，第i位为1表示第i个字符串验证通过
+     */
+    public static BitSet validAll(final List<String> values, final Predicate<String> validator) {
+        if (values == null || values.isEmpty()) {
+            return new BitSet();
+        }
+        final List<String> list = values instanceof RandomAccess ? values : new ArrayList<>(values);
+        final int size = list.size();
+        final long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        IntStream wordIndexes = IntStream.range(0, words.length);
+        if (size >= PARALLEL_THRESHOLD) {
+            wordIndexes = wordIndexes.parallel();
+        }
+        wordIndexes.forEach(wordIndex -> {
+            int from = wordIndex * Long.SIZE;
+            int to = Math.min(from + Long.SIZE, size);
+            long word = 0L;
+            for (int i = from; i < to; i++) {
+                if (validator.test(list.get(i))) {
+                    word |= 1L << (i - from);
+                }
+            }
+            words[wordIndex] = word;
+        });
+        return BitSet.valueOf(words);
+    }
+
+    private static boolean isDigit(char value) {
+        return value >= '0' && value <= '9';
     }
 }
@@ -15,25 +15,29 @@
  */
 package com.maydear.core.framework.util;
 
+import com.maydear.core.framework.crypto.CryptoEngine;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.binary.StringUtils;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 import javax.crypto.*;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.security.Security;
+import java.util.Arrays;
 
 /**
  * 字符串加密解密助手类
+ * <p>
+ * 除字符串外同时提供字节数组、{@link ByteBuffer}与流式的重载；更多摘要与消息认证码的缓冲区、流和通道处理见{@link CryptoEngine}。
+ * </p>
  *
  * @author kelvin.liang
  * @version 1.0.0
@@ -45,6 +49,32 @@ public class StringSecurityUtils {
     private StringSecurityUtils() {
         throw new IllegalStateException("Utility class");
     }
+
+    /**
+     * 使用线程内复用的摘要实例计算UTF-8编码数据的摘要
+     *
+     * @param algorithm 摘要算法
+     * @param data      待计算的数据
+     * @return 返回摘要
+     */
+    private static byte[] digest(final String algorithm, final String data) {
+        return digest(algorithm, StringUtils.getBytesUtf8(data));
+    }
+
+    /**
+     * 使用线程内复用的摘要实例计算摘要
+     *
+     * @param algorithm 摘要算法
+     * @param data      待计算的数据
+     * @return 返回摘要
+     */
+    private static byte[] digest(final String algorithm, final byte[] data) {
+        try {
+            return CryptoEngine.digest(algorithm, data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
     //region MD5
 
     /**
@@ -54,7 +84,17 @@ public class StringSecurityUtils {
      * @return 返回MD5加密后二进制数组
      */
     public static byte[] encryptMd5(final String data) {
-        return DigestUtils.md5(data);
+        return digest("MD5", data);
+    }
+
+    /**
+     * MD5加密
+     *
+     * @param data 待加密的数据
+     * @return 返回MD5加密后的字节数组
+     */
+    public static byte[] encryptMd5(final byte[] data) {
+        return digest("MD5", data);
     }
 
     /// <summary>
@@ -70,7 +110,7 @@ public class StringSecurityUtils {
      * @return 返回MD5加密后的十六进制编码字符串
      */
     public static String encryptMd5ToHex(final String data) {
-        return DigestUtils.md5Hex(data);
+        return Hex.encodeHexString(encryptMd5(data));
     }
 
     /**
@@ -116,10 +156,18 @@ public class StringSecurityUtils {
      * @throws Exception
      */
     public static byte[] encryptHmacMd5(String data, byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
-        SecretKey secretKey = new SecretKeySpec(key, SECRET_KEY_HMACMD5);
-        Mac mac = Mac.getInstance(secretKey.getAlgorithm());
-        mac.init(secretKey);
-        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoEngine.mac(SECRET_KEY_HMACMD5, key, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * HmacMD5加密
+     *
+     * @param data 待加密的数据
+     * @param key  加密的密钥
+     * @return 返回HmacMD5加密后的二进制数组
+     */
+    public static byte[] encryptHmacMd5(final byte[] data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
+        return CryptoEngine.mac(SECRET_KEY_HMACMD5, key, data);
     }
 
     /**
@@ -175,7 +223,17 @@ public class StringSecurityUtils {
      * @return 返回SHA1加密后的字节数组
      */
     public static byte[] encryptSha1(final String data) {
-        return DigestUtils.sha1(data);
+        return digest("SHA-1", data);
+    }
+
+    /**
+     * SHA1加密
+     *
+     * @param data 待加密的数据
+     * @return 返回SHA1加密后的字节数组
+     */
+    public static byte[] encryptSha1(final byte[] data) {
+        return digest("SHA-1", data);
     }
 
     /**
@@ -207,7 +265,7 @@ public class StringSecurityUtils {
      * @return 返回SHA1加密后的字节数组
      */
     public static String encryptSha1ToHex(final String data) {
-        return DigestUtils.sha1Hex(data);
+        return Hex.encodeHexString(encryptSha1(data));
     }
 
     //endregion
@@ -228,10 +286,18 @@ public class StringSecurityUtils {
      * @throws Exception
      */
     public static byte[] encryptHmacSha1(final String data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
-        SecretKey secretKey = new SecretKeySpec(key, SECRET_KEY_HMACSHA1);
-        Mac mac = Mac.getInstance(secretKey.getAlgorithm());
-        mac.init(secretKey);
-        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoEngine.mac(SECRET_KEY_HMACSHA1, key, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * HmacSHA1加密
+     *
+     * @param data 待加密的数据
+     * @param key  加密的密钥
+     * @return 返回HmacSHA1加密后的二进制数组
+     */
+    public static byte[] encryptHmacSha1(final byte[] data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
+        return CryptoEngine.mac(SECRET_KEY_HMACSHA1, key, data);
     }
 
     /**
@@ -283,7 +349,17 @@ public class StringSecurityUtils {
      * @return 返回HA256加密后的字节数组
      */
     public static byte[] encryptSha256(final String data) {
-        return DigestUtils.sha256(data);
+        return digest("SHA-256", data);
+    }
+
+    /**
+     * SHA256加密
+     *
+     * @param data 待加密的数据
+     * @return 返回SHA256加密后的字节数组
+     */
+    public static byte[] encryptSha256(final byte[] data) {
+        return digest("SHA-256", data);
     }
 
     /**
@@ -315,7 +391,7 @@ public class StringSecurityUtils {
      * @return 返回SHA256加密后的十六进制字符串
      */
     public static String encryptSha256ToHex(final String data) {
-        return DigestUtils.sha256Hex(data);
+        return Hex.encodeHexString(encryptSha256(data));
     }
 
     //endregion
@@ -336,10 +412,18 @@ public class StringSecurityUtils {
      * @throws Exception
      */
     public static byte[] encryptHmacSha256(final String data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
-        SecretKey secretKey = new SecretKeySpec(key, SECRET_KEY_HMACSHA256);
-        Mac mac = Mac.getInstance(secretKey.getAlgorithm());
-        mac.init(secretKey);
-        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoEngine.mac(SECRET_KEY_HMACSHA256, key, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * HmacSHA256加密
+     *
+     * @param data 待加密的数据
+     * @param key  加密的密钥
+     * @return 返回HmacSHA256加密后的二进制数组
+     */
+    public static byte[] encryptHmacSha256(final byte[] data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
+        return CryptoEngine.mac(SECRET_KEY_HMACSHA256, key, data);
     }
 
     /**
@@ -391,7 +475,17 @@ public class StringSecurityUtils {
      * @return 返回SHA512加密后的字节数组
      */
     public static byte[] encryptSha512(final String data) {
-        return DigestUtils.sha512(data);
+        return digest("SHA-512", data);
+    }
+
+    /**
+     * SHA512加密
+     *
+     * @param data 待加密的数据
+     * @return 返回SHA512加密后的字节数组
+     */
+    public static byte[] encryptSha512(final byte[] data) {
+        return digest("SHA-512", data);
     }
 
     /**
@@ -423,7 +517,7 @@ public class StringSecurityUtils {
      * @return 返回SHA512加密后的十六进制字符串
      */
     public static String encryptSha512ToHex(final String data) {
-        return DigestUtils.sha512Hex(data);
+        return Hex.encodeHexString(encryptSha512(data));
     }
 
     //endregion
@@ -444,10 +538,18 @@ public class StringSecurityUtils {
      * @throws Exception
      */
     public static byte[] encryptHmacSha512(final String data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
-        SecretKey secretKey = new SecretKeySpec(key, SECRET_KEY_HMACSHA512);
-        Mac mac = Mac.getInstance(secretKey.getAlgorithm());
-        mac.init(secretKey);
-        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoEngine.mac(SECRET_KEY_HMACSHA512, key, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * HmacSHA512加密
+     *
+     * @param data 待加密的数据
+     * @param key  加密的密钥
+     * @return 返回HmacSHA512加密后的二进制数组
+     */
+    public static byte[] encryptHmacSha512(final byte[] data, final byte[] key) throws InvalidKeyException, NoSuchAlgorithmException {
+        return CryptoEngine.mac(SECRET_KEY_HMACSHA512, key, data);
     }
 
     /**
@@ -503,6 +605,32 @@ public class StringSecurityUtils {
         return "AES/" + mode.getName() + "/" + padding.getName();
     }
 
+    /**
+     * ECB模式不使用向量
+     *
+     * @param iv   向量
+     * @param mode 密码模式
+     * @return 返回实际使用的向量
+     */
+    private static byte[] getAesIv(final byte[] iv, CipherMode mode) {
+        return mode != CipherMode.ECB ? iv : null;
+    }
+
+    /**
+     * 校验密钥与向量
+     *
+     * @param key 密钥
+     * @param iv  向量
+     */
+    private static void checkAesArguments(final byte[] key, final byte[] iv) {
+        if (ObjectUtils.isEmpty(key)) {
+            throw new IllegalArgumentException("Key IsNot Null");
+        }
+        if (ObjectUtils.isEmpty(iv)) {
+            throw new IllegalArgumentException("IV IsNot Null");
+        }
+    }
+
     /**
      * AES-128算法KEY最小长度
      */
@@ -524,24 +652,70 @@ public class StringSecurityUtils {
      * @return 返回AES加密后的字节数组
      */
     public static byte[] encryptAes(final String data, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws InvalidAlgorithmParameterException, InvalidKeyException, NoSuchPaddingException, NoSuchAlgorithmException, BadPaddingException, IllegalBlockSizeException {
-        if (ObjectUtils.isEmpty(key)) {
-            throw new IllegalArgumentException("Key IsNot Null");
-        }
-        if (ObjectUtils.isEmpty(iv)) {
-            throw new IllegalArgumentException("IV IsNot Null");
-        }
-        Security.addProvider(new BouncyCastleProvider());
-        SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
-        String aesAlgorithmName = getAesAlgorithmName(mode, padding);
-        Cipher cipher = Cipher.getInstance(aesAlgorithmName);
-        if (mode != CipherMode.ECB) {
-            IvParameterSpec ivSpec = new IvParameterSpec(iv);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
-        } else {
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-        }
+        return encryptAes(data.getBytes(StandardCharsets.UTF_8), key, iv, mode, padding);
+    }
+
+    /**
+     * AES加密
+     *
+     * @param data    待加密的数据
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回AES加密后的字节数组
+     */
+    public static byte[] encryptAes(final byte[] data, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws InvalidAlgorithmParameterException, InvalidKeyException, NoSuchPaddingException, NoSuchAlgorithmException, BadPaddingException, IllegalBlockSizeException {
+        checkAesArguments(key, iv);
         //"算法/模式/补码方式"
-        return cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoEngine.cipher(getAesAlgorithmName(mode, padding), Cipher.ENCRYPT_MODE, key, getAesIv(iv, mode), data);
+    }
+
+    /**
+     * AES加密缓冲区中剩余的数据，支持直接缓冲区
+     *
+     * @param input   待加密的数据，处理后position移动到limit
+     * @param output  密文输出缓冲区
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回写入输出缓冲区的字节数
+     */
+    public static int encryptAes(final ByteBuffer input, final ByteBuffer output, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws InvalidAlgorithmParameterException, InvalidKeyException, NoSuchPaddingException, NoSuchAlgorithmException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        checkAesArguments(key, iv);
+        return CryptoEngine.cipher(getAesAlgorithmName(mode, padding), Cipher.ENCRYPT_MODE, key, getAesIv(iv, mode), input, output);
+    }
+
+    /**
+     * AES流式加密，分块读取明文并写入密文，不关闭输入输出流
+     *
+     * @param input   明文输入流
+     * @param output  密文输出流
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回写入的密文字节数
+     */
+    public static long encryptAes(final InputStream input, final OutputStream output, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws InvalidAlgorithmParameterException, InvalidKeyException, NoSuchPaddingException, NoSuchAlgorithmException, BadPaddingException, IllegalBlockSizeException, IOException {
+        checkAesArguments(key, iv);
+        return CryptoEngine.cipher(getAesAlgorithmName(mode, padding), Cipher.ENCRYPT_MODE, key, getAesIv(iv, mode), input, output);
+    }
+
+    /**
+     * 创建AES加密输出流，写入的明文加密后写入原始输出流，关闭时写入最后一块密文并关闭原始输出流
+     *
+     * @param output  密文输出流
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回加密输出流
+     */
+    public static OutputStream newAesEncryptOutputStream(final OutputStream output, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws InvalidAlgorithmParameterException, InvalidKeyException, NoSuchPaddingException, NoSuchAlgorithmException {
+        checkAesArguments(key, iv);
+        return CryptoEngine.newCipherOutputStream(getAesAlgorithmName(mode, padding), Cipher.ENCRYPT_MODE, key, getAesIv(iv, mode), output);
     }
 
     /**
@@ -708,12 +882,7 @@ public class StringSecurityUtils {
      * @return 返回解密后的字节数组
      */
     public static byte[] decryptAes(final String data, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws DecoderException, NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
-        if (ObjectUtils.isEmpty(key)) {
-            throw new IllegalArgumentException("Key IsNot Null");
-        }
-        if (ObjectUtils.isEmpty(iv)) {
-            throw new IllegalArgumentException("IV IsNot Null");
-        }
+        checkAesArguments(key, iv);
 
         byte[] dataBytes;
         if (Base64.isBase64(data)) {
@@ -721,19 +890,70 @@ public class StringSecurityUtils {
         } else {
             dataBytes = Hex.decodeHex(data);
         }
-        Security.addProvider(new BouncyCastleProvider());
-        SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
+        return decryptAes(dataBytes, key, iv, mode, padding);
+    }
+
+    /**
+     * AES解密
+     *
+     * @param data    待解密的密文字节
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回解密后的字节数组
+     */
+    public static byte[] decryptAes(final byte[] data, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        checkAesArguments(key, iv);
         //"算法/模式/补码方式"
-        String aesAlgorithmName = getAesAlgorithmName(mode, padding);
-        Cipher cipher = Cipher.getInstance(aesAlgorithmName);
+        return CryptoEngine.cipher(getAesAlgorithmName(mode, padding), Cipher.DECRYPT_MODE, key, getAesIv(iv, mode), data);
+    }
 
-        if (mode != CipherMode.ECB) {
-            IvParameterSpec ivSpec = new IvParameterSpec(iv);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
-        } else {
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-        }
-        return cipher.doFinal(dataBytes);
+    /**
+     * AES解密缓冲区中剩余的密文，支持直接缓冲区
+     *
+     * @param input   待解密的密文，处理后position移动到limit
+     * @param output  明文输出缓冲区
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回写入输出缓冲区的字节数
+     */
+    public static int decryptAes(final ByteBuffer input, final ByteBuffer output, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        checkAesArguments(key, iv);
+        return CryptoEngine.cipher(getAesAlgorithmName(mode, padding), Cipher.DECRYPT_MODE, key, getAesIv(iv, mode), input, output);
+    }
+
+    /**
+     * AES流式解密，分块读取密文并写入明文，不关闭输入输出流
+     *
+     * @param input   密文输入流
+     * @param output  明文输出流
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回写入的明文字节数
+     */
+    public static long decryptAes(final InputStream input, final OutputStream output, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, IOException {
+        checkAesArguments(key, iv);
+        return CryptoEngine.cipher(getAesAlgorithmName(mode, padding), Cipher.DECRYPT_MODE, key, getAesIv(iv, mode), input, output);
+    }
+
+    /**
+     * 创建AES解密输入流，从原始输入流读取密文并返回明文，关闭时同时关闭原始输入流
+     *
+     * @param input   密文输入流
+     * @param key     密钥
+     * @param iv      向量
+     * @param mode    密码模式
+     * @param padding 补码形式
+     * @return 返回解密输入流
+     */
+    public static InputStream newAesDecryptInputStream(final InputStream input, final byte[] key, final byte[] iv, CipherMode mode, PaddingMode padding) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException {
+        checkAesArguments(key, iv);
+        return CryptoEngine.newCipherInputStream(getAesAlgorithmName(mode, padding), Cipher.DECRYPT_MODE, key, getAesIv(iv, mode), input);
     }
 
     /**
@@ -799,4 +1019,158 @@ public class StringSecurityUtils {
         return decryptAesToString(data, key, CipherMode.ECB, PaddingMode.PKCS7);
     }
     //endregion
+
+    //region AEAD
+
+    /**
+     * 生成认证加密随机数
+     *
+     * @param algorithm 认证加密算法
+     * @return 返回随机数
+     */
+    public static byte[] generateAeadNonce(AeadAlgorithm algorithm) {
+        return CryptoEngine.randomBytes(algorithm.getNonceLength());
+    }
+
+    /**
+     * 认证加密，使用随机生成的随机数，一次处理同时保证机密性与完整性
+     *
+     * @param algorithm 认证加密算法
+     * @param data      待加密的数据
+     * @param key       密钥
+     * @param aad       附加认证数据，不加密但参与认证，可为空
+     * @return 返回随机数、密文与认证标签依次拼接的字节数组
+     */
+    public static byte[] encryptAead(AeadAlgorithm algorithm, final byte[] data, final byte[] key, final byte[] aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        checkAeadKey(key);
+        int nonceLength = algorithm.getNonceLength();
+        byte[] nonce = generateAeadNonce(algorithm);
+        byte[] result = new byte[nonceLength + data.length + algorithm.getTagLength()];
+        System.arraycopy(nonce, 0, result, 0, nonceLength);
+        try {
+            CryptoEngine.aead(algorithm.getName(), Cipher.ENCRYPT_MODE, key, nonce, aad == null ? null : ByteBuffer.wrap(aad),
+                ByteBuffer.wrap(data), ByteBuffer.wrap(result, nonceLength, result.length - nonceLength));
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    /**
+     * 认证解密
+     *
+     * @param algorithm 认证加密算法
+     * @param data      {@link #encryptAead(AeadAlgorithm, byte[], byte[], byte[])}的加密结果
+     * @param key       密钥
+     * @param aad       附加认证数据，须与加密时一致，可为空
+     * @return 返回解密后的字节数组
+     * @throws AEADBadTagException 密文、随机数或附加认证数据被篡改
+     */
+    public static byte[] decryptAead(AeadAlgorithm algorithm, final byte[] data, final byte[] key, final byte[] aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        checkAeadKey(key);
+        int nonceLength = algorithm.getNonceLength();
+        if (data.length < nonceLength + algorithm.getTagLength()) {
+            throw new AEADBadTagException("Ciphertext too short");
+        }
+        byte[] nonce = Arrays.copyOf(data, nonceLength);
+        byte[] result = new byte[data.length - nonceLength - algorithm.getTagLength()];
+        try {
+            CryptoEngine.aead(algorithm.getName(), Cipher.DECRYPT_MODE, key, nonce, aad == null ? null : ByteBuffer.wrap(aad),
+                ByteBuffer.wrap(data, nonceLength, data.length - nonceLength), ByteBuffer.wrap(result));
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    /**
+     * 认证加密并返回Base64编码的字符串
+     *
+     * @param algorithm 认证加密算法
+     * @param data      待加密的明文
+     * @param key       密钥
+     * @param aad       附加认证数据，可为空
+     * @return 返回随机数、密文与认证标签拼接后的Base64编码字符串
+     */
+    public static String encryptAeadToBase64(AeadAlgorithm algorithm, final String data, final byte[] key, final String aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        return Base64.encodeBase64String(encryptAead(algorithm, StringUtils.getBytesUtf8(data), key, StringUtils.getBytesUtf8(aad)));
+    }
+
+    /**
+     * 认证解密Base64编码的密文并返回UTF8编码字符串
+     *
+     * @param algorithm 认证加密算法
+     * @param data      {@link #encryptAeadToBase64(AeadAlgorithm, String, byte[], String)}的加密结果
+     * @param key       密钥
+     * @param aad       附加认证数据，须与加密时一致，可为空
+     * @return 返回解密后的原文
+     * @throws AEADBadTagException 密文、随机数或附加认证数据被篡改
+     */
+    public static String decryptAeadToString(AeadAlgorithm algorithm, final String data, final byte[] key, final String aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException {
+        return StringUtils.newStringUtf8(decryptAead(algorithm, Base64.decodeBase64(data), key, StringUtils.getBytesUtf8(aad)));
+    }
+
+    /**
+     * 原地认证加密
+     * <p>
+     * 缓冲区中position到limit之间的明文被替换为密文，认证标签紧随其后写入，调用后limit指向认证标签末尾，position不变；
+     * 因此limit之后至少需要预留{@link AeadAlgorithm#getTagLength()}字节的空间。随机数由调用方生成并与密文一同保存。
+     * </p>
+     *
+     * @param algorithm 认证加密算法
+     * @param buffer    数据缓冲区，支持直接缓冲区
+     * @param key       密钥
+     * @param nonce     随机数，同一密钥下不得重复使用
+     * @param aad       附加认证数据，可为空
+     * @return 返回密文与认证标签的总长度
+     */
+    public static int encryptAead(AeadAlgorithm algorithm, final ByteBuffer buffer, final byte[] key, final byte[] nonce, final byte[] aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        return aeadInPlace(algorithm, Cipher.ENCRYPT_MODE, buffer, key, nonce, aad);
+    }
+
+    /**
+     * 原地认证解密
+     * <p>
+     * 缓冲区中position到limit之间的密文与认证标签被替换为明文，调用后limit指向明文末尾，position不变。
+     * </p>
+     *
+     * @param algorithm 认证加密算法
+     * @param buffer    数据缓冲区，支持直接缓冲区
+     * @param key       密钥
+     * @param nonce     加密时使用的随机数
+     * @param aad       附加认证数据，须与加密时一致，可为空
+     * @return 返回明文长度
+     * @throws AEADBadTagException 密文、随机数或附加认证数据被篡改
+     */
+    public static int decryptAead(AeadAlgorithm algorithm, final ByteBuffer buffer, final byte[] key, final byte[] nonce, final byte[] aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        return aeadInPlace(algorithm, Cipher.DECRYPT_MODE, buffer, key, nonce, aad);
+    }
+
+    /**
+     * 原地认证加密或解密，输入与输出为同一缓冲区的两个视图
+     */
+    private static int aeadInPlace(AeadAlgorithm algorithm, int opmode, final ByteBuffer buffer, final byte[] key, final byte[] nonce, final byte[] aad) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, ShortBufferException {
+        checkAeadKey(key);
+        if (ObjectUtils.isEmpty(nonce)) {
+            throw new IllegalArgumentException("Nonce IsNot Null");
+        }
+        ByteBuffer input = buffer.duplicate();
+        ByteBuffer output = buffer.duplicate();
+        output.limit(output.capacity());
+        int length = CryptoEngine.aead(algorithm.getName(), opmode, key, nonce, aad == null ? null : ByteBuffer.wrap(aad), input, output);
+        buffer.limit(buffer.position() + length);
+        return length;
+    }
+
+    /**
+     * 校验认证加密密钥
+     *
+     * @param key 密钥
+     */
+    private static void checkAeadKey(final byte[] key) {
+        if (ObjectUtils.isEmpty(key)) {
+            throw new IllegalArgumentException("Key IsNot Null");
+        }
+    }
+    //endregion
 }
@@ -15,12 +15,16 @@
  */
 package com.maydear.core.framework.util;
 
-import org.apache.commons.lang3.RegExUtils;
-
-import java.util.UUID;
+import com.maydear.core.framework.id.IdGenerator;
+import com.maydear.core.framework.id.IdGenerators;
+import com.maydear.core.framework.id.RandomUuidGenerator;
 
 /**
  * UUID工具类
+ * <p>
+ * 随机UUID由{@link RandomUuidGenerator}直接编码生成；需要按时间排序等其他形式的标识时使用{@link #nextId()}，
+ * 其生成规则由{@link IdGenerators#getDefault()}决定。
+ * </p>
  *
  * @author phil
  */
@@ -56,7 +60,7 @@ public class UUIDUtils {
      * @return 不带中横杆的UUID字符串
      */
     public static String generateNoUnderline() {
-        return RegExUtils.replaceAll(generate(), "-", "");
+        return RandomUuidGenerator.INSTANCE.generate();
     }
 
     /**
@@ -65,6 +69,16 @@ public class UUIDUtils {
      * @return UUID字符串
      */
     public static String generate() {
-        return UUID.randomUUID().toString();
+        return RandomUuidGenerator.DASHED.generate();
+    }
+
+    /**
+     * 使用默认标识生成器生成标识，未配置时与{@link #generateNoUnderline()}相同
+     *
+     * @return 标识字符串
+     * @see IdGenerators#setDefault(IdGenerator)
+     */
+    public static String nextId() {
+        return IdGenerators.getDefault().generate();
     }
 }
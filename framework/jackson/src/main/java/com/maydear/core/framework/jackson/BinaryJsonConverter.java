@@ -0,0 +1,108 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.jackson;
+
+import com.maydear.core.framework.JsonConverter;
+import com.maydear.core.framework.jackson.mapper.JsonMapper;
+import com.maydear.core.framework.util.Base64Utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 二进制json格式（Smile、CBOR等）转换基类
+ * <p>
+ * 字节、流及缓冲区接口直接读写二进制编码；字符串接口无法承载二进制内容，以Base64（URL安全）文本表示编码结果。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public abstract class BinaryJsonConverter implements JsonConverter {
+
+    private final JsonMapper mapper;
+
+    protected BinaryJsonConverter(JsonMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * 获取二进制格式的转换工具
+     *
+     * @return 返回JsonMapper
+     */
+    public JsonMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * 序列化为二进制编码的Base64文本
+     *
+     * @param object 待序列化的对象
+     * @return 返回Base64文本
+     */
+    @Override
+    public String serializa(Object object) {
+        byte[] content = mapper.toJsonBytes(object);
+        return content == null ? null : Base64Utils.encodeToString(content);
+    }
+
+    /**
+     * 反序列化二进制编码的Base64文本为对象
+     *
+     * @param content Base64文本
+     * @param clazz   对象类型
+     * @param <T>     对象泛型
+     * @return 返回指定的对象
+     */
+    @Override
+    public <T> T deserializa(String content, Class<T> clazz) {
+        return content == null ? null : mapper.fromJson(Base64Utils.decodeToBytes(content), clazz);
+    }
+
+    @Override
+    public <T> T deserializa(InputStream stream, Class<T> clazz) {
+        return mapper.fromJson(stream, clazz);
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object object) {
+        return mapper.toJsonBytes(object);
+    }
+
+    @Override
+    public void writeTo(Object object, OutputStream out) throws IOException {
+        mapper.writeTo(object, out);
+    }
+
+    @Override
+    public void writeTo(Object object, WritableByteChannel channel) throws IOException {
+        mapper.writeTo(object, channel);
+    }
+
+    @Override
+    public <T> T deserializa(byte[] content, Class<T> clazz) {
+        return mapper.fromJson(content, clazz);
+    }
+
+    @Override
+    public <T> T deserializa(ByteBuffer content, Class<T> clazz) {
+        return mapper.fromJson(content, clazz);
+    }
+}
@@ -18,7 +18,11 @@ package com.maydear.core.framework.jackson;
 import com.maydear.core.framework.JsonConverter;
 import com.maydear.core.framework.jackson.mapper.JsonMapper;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * json 转换
@@ -42,4 +46,29 @@ public class JsonConverterImpl implements JsonConverter {
     public <T> T deserializa(InputStream stream, Class<T> clazz) {
         return JsonMapper.INSTANCE.fromJson(stream,clazz);
     }
+
+    @Override
+    public byte[] toJsonBytes(Object object) {
+        return JsonMapper.INSTANCE.toJsonBytes(object);
+    }
+
+    @Override
+    public void writeTo(Object object, OutputStream out) throws IOException {
+        JsonMapper.INSTANCE.writeTo(object, out);
+    }
+
+    @Override
+    public void writeTo(Object object, WritableByteChannel channel) throws IOException {
+        JsonMapper.INSTANCE.writeTo(object, channel);
+    }
+
+    @Override
+    public <T> T deserializa(byte[] content, Class<T> clazz) {
+        return JsonMapper.INSTANCE.fromJson(content, clazz);
+    }
+
+    @Override
+    public <T> T deserializa(ByteBuffer content, Class<T> clazz) {
+        return JsonMapper.INSTANCE.fromJson(content, clazz);
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.jackson;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.maydear.core.framework.jackson.mapper.JsonMapper;
+
+/**
+ * Smile（二进制json）转换，与{@link JsonMapper#INSTANCE}注册相同的模块及配置
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class SmileConverterImpl extends BinaryJsonConverter {
+
+    /**
+     * Smile格式的转换工具
+     */
+    public static final JsonMapper MAPPER = new JsonMapper(new SmileFactory(), null);
+
+    public SmileConverterImpl() {
+        super(MAPPER);
+    }
+}
@@ -17,29 +17,49 @@ package com.maydear.core.framework.jackson;
 
 import com.maydear.core.framework.XmlConverter;
 import com.maydear.core.framework.jackson.mapper.XmlMapper;
+import com.maydear.core.framework.jackson.mapper.XmlMapperOptions;
 
 import java.io.InputStream;
 
 /**
- * xml 转换
+ * xml 转换，默认使用{@link XmlMapper#COMPACT}紧凑输出
  *
  * @author kelvin.liang
  * @version 1.0.0
  */
 public class XmlConverterImpl implements XmlConverter {
 
+    private final XmlMapper xmlMapper;
+
+    public XmlConverterImpl() {
+        this(XmlMapper.COMPACT);
+    }
+
+    /**
+     * 按选项构造
+     *
+     * @param options XmlMapper选项
+     */
+    public XmlConverterImpl(XmlMapperOptions options) {
+        this(new XmlMapper(options));
+    }
+
+    public XmlConverterImpl(XmlMapper xmlMapper) {
+        this.xmlMapper = xmlMapper;
+    }
+
     @Override
     public String serializa(Object object) {
-        return XmlMapper.INSTANCE.toXml(object);
+        return xmlMapper.toXml(object);
     }
 
     @Override
     public <T> T deserializa(String content, Class<T> clazz) {
-        return XmlMapper.INSTANCE.fromXml(content,clazz);
+        return xmlMapper.fromXml(content,clazz);
     }
 
     @Override
     public <T> T deserializa(InputStream stream, Class<T> clazz) {
-        return XmlMapper.INSTANCE.fromXml(stream,clazz);
+        return xmlMapper.fromXml(stream,clazz);
     }
 }
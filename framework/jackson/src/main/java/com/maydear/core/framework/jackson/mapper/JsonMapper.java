@@ -16,11 +16,19 @@
 package com.maydear.core.framework.jackson.mapper;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.maydear.core.framework.Page;
 import com.maydear.core.framework.jackson.module.CharSequenceModule;
 import com.maydear.core.framework.jackson.module.DateModule;
 import com.maydear.core.framework.jackson.module.DefaultSimpleModule;
@@ -30,9 +38,19 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 基于Jackson XmlMapper的重新封装的Xml转换工具类
@@ -43,19 +61,47 @@ import java.util.Map;
 @Slf4j
 public class JsonMapper {
 
-    public static final JsonMapper INSTANCE = new JsonMapper();
+    /**
+     * 设置为true时{@link #INSTANCE}注册Afterburner模块，以字节码生成代替反射访问属性
+     */
+    public static final String AFTERBURNER_PROPERTY = "maydear.jackson.afterburner";
+
+    private static final String AFTERBURNER_MODULE_CLASS = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    public static final JsonMapper INSTANCE = Boolean.getBoolean(AFTERBURNER_PROPERTY) ? new JsonMapper().registerAfterburnerModule() : new JsonMapper();
 
     private static final String STREAM_TO_JSON_ERROR_MESSAGE = "将Stream形式的json转换成对象时发生错误:";
     private static final String JSON_TO_OBJECT_ERROR_MESSAGE = "将json转换成对象时发生错误:";
     private static final String OBJECT_TO_JSON_ERROR_MESSAGE = "将对象转换成json时发生错误:";
+    private static final String OBJECT_TO_OBJECT_ERROR_MESSAGE = "复制对象时发生错误:";
     private ObjectMapper mapper;
 
+    /**
+     * 按类型缓存的ObjectReader，已完成类型解析及根反序列化器查找
+     */
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * 按类型缓存的ObjectWriter，已完成根序列化器查找
+     */
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
     public JsonMapper() {
         this(null);
     }
 
     public JsonMapper(JsonInclude.Include include) {
-        this.mapper = new ObjectMapper();
+        this(null, include);
+    }
+
+    /**
+     * 使用指定的格式工厂构造，注册与默认json相同的模块及配置，如Smile、CBOR等二进制json格式
+     *
+     * @param factory 格式工厂，为空时使用json
+     * @param include 序列化包含规则，可为空
+     */
+    public JsonMapper(JsonFactory factory, JsonInclude.Include include) {
+        this.mapper = new ObjectMapper(factory);
         if (include != null) {
             this.mapper.setSerializationInclusion(include);
         }
@@ -81,9 +127,88 @@ public class JsonMapper {
 
     public JsonMapper configure(SerializationFeature serializationFeature, boolean state) {
         this.mapper.configure(serializationFeature, state);
+        clearCache();
         return this;
     }
 
+    /**
+     * 注册模块
+     *
+     * @param module Jackson模块
+     * @return 返回当前对象
+     */
+    public JsonMapper registerModule(Module module) {
+        this.mapper.registerModule(module);
+        clearCache();
+        return this;
+    }
+
+    /**
+     * 注册Afterburner模块，以字节码生成代替反射访问属性，类路径中不存在jackson-module-afterburner时忽略。
+     * jackson-module-afterburner为可选依赖，使用时须自行引入
+     *
+     * @return 返回当前对象
+     */
+    public JsonMapper registerAfterburnerModule() {
+        Module module;
+        try {
+            module = (Module) Class.forName(AFTERBURNER_MODULE_CLASS, true, JsonMapper.class.getClassLoader()).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            log.warn("类路径中不存在jackson-module-afterburner，忽略Afterburner模块注册");
+            return this;
+        } catch (ReflectiveOperationException e) {
+            log.error("Afterburner模块初始化失败", e);
+            return this;
+        }
+        return registerModule(module);
+    }
+
+    /**
+     * 获取指定类型的ObjectReader，首次获取后缓存
+     *
+     * @param type 对象类型，如{@link Class}、{@link JavaType}
+     * @return 返回ObjectReader
+     */
+    public ObjectReader getReader(Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = readers.computeIfAbsent(type, key -> this.mapper.readerFor(this.mapper.getTypeFactory().constructType(key)));
+        }
+        return reader;
+    }
+
+    /**
+     * 获取指定类型的ObjectWriter，首次获取后缓存
+     *
+     * @param clazz 对象类型
+     * @return 返回ObjectWriter
+     */
+    public ObjectWriter getWriter(Class<?> clazz) {
+        ObjectWriter writer = writers.get(clazz);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(clazz, this.mapper::writerFor);
+        }
+        return writer;
+    }
+
+    /**
+     * 获取对象运行时类型的ObjectWriter
+     *
+     * @param object 需要转换的对象
+     * @return 返回ObjectWriter
+     */
+    private ObjectWriter writerOf(Object object) {
+        return object == null ? this.mapper.writer() : getWriter(object.getClass());
+    }
+
+    /**
+     * 清除已缓存的ObjectReader/ObjectWriter，直接修改{@link #getMapper()}的配置后须调用
+     */
+    public void clearCache() {
+        readers.clear();
+        writers.clear();
+    }
+
     /**
      * 将bean转成json
      *
@@ -92,13 +217,53 @@ public class JsonMapper {
      */
     public String toJson(Object object) {
         try {
-            return this.mapper.writeValueAsString(object);
+            return writerOf(object).writeValueAsString(object);
         } catch (JsonProcessingException e) {
             log.error(OBJECT_TO_JSON_ERROR_MESSAGE + object, e);
             return null;
         }
     }
 
+    /**
+     * 将bean转成UTF-8编码的json，由UTF-8生成器直接输出字节，不经过String
+     *
+     * @param object 需要转换的对象
+     * @return 转换后的json（UTF-8）
+     */
+    public byte[] toJsonBytes(Object object) {
+        try {
+            return writerOf(object).writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            log.error(OBJECT_TO_JSON_ERROR_MESSAGE + object, e);
+            return null;
+        }
+    }
+
+    /**
+     * 将bean转成UTF-8编码的json并写入输出流，写入完成后不关闭输出流
+     *
+     * @param object 需要转换的对象
+     * @param out    输出流
+     * @throws IOException 转换或写入发生错误时抛出的异常
+     */
+    public void writeTo(Object object, OutputStream out) throws IOException {
+        try (JsonGenerator generator = this.mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writerOf(object).writeValue(generator, object);
+        }
+    }
+
+    /**
+     * 将bean转成UTF-8编码的json并写入通道，写入完成后不关闭通道
+     *
+     * @param object  需要转换的对象
+     * @param channel 通道
+     * @throws IOException 转换或写入发生错误时抛出的异常
+     */
+    public void writeTo(Object object, WritableByteChannel channel) throws IOException {
+        writeTo(object, Channels.newOutputStream(channel));
+    }
+
     /**
      * 反序列化json到简单的对象
      *
@@ -112,7 +277,7 @@ public class JsonMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(content, clazz);
+            return getReader(clazz).readValue(content);
         } catch (IOException e) {
             log.error(JSON_TO_OBJECT_ERROR_MESSAGE + clazz, e);
             return null;
@@ -134,13 +299,88 @@ public class JsonMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(content, javaType);
+            return getReader(javaType).readValue(content);
         } catch (IOException e) {
             log.error("" + content, e);
             return null;
         }
     }
 
+    /**
+     * 反序列化字节形式的json到简单的对象
+     *
+     * @param content 字节形式的json
+     * @param clazz   输出的对象类型
+     * @param <T>     返回的对象类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(byte[] content, Class<T> clazz) {
+        return readJson(content, clazz);
+    }
+
+    /**
+     * 反序列化字节形式的json到复杂的泛型对象
+     *
+     * @param content  字节形式的json
+     * @param javaType 输出的对象类型
+     * @param <T>      返回的对象类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(byte[] content, JavaType javaType) {
+        return readJson(content, javaType);
+    }
+
+    /**
+     * 反序列化缓冲区中的json到简单的对象，读取position到limit之间的内容，不改变缓冲区位置
+     *
+     * @param content 缓冲区形式的json
+     * @param clazz   输出的对象类型
+     * @param <T>     返回的对象类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(ByteBuffer content, Class<T> clazz) {
+        return readJson(content, clazz);
+    }
+
+    /**
+     * 反序列化缓冲区中的json到复杂的泛型对象，读取position到limit之间的内容，不改变缓冲区位置
+     *
+     * @param content  缓冲区形式的json
+     * @param javaType 输出的对象类型
+     * @param <T>      返回的对象类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(ByteBuffer content, JavaType javaType) {
+        return readJson(content, javaType);
+    }
+
+    private <T> T readJson(byte[] content, Type type) {
+        if (content == null || content.length == 0) {
+            return null;
+        }
+        try {
+            return getReader(type).readValue(content);
+        } catch (IOException e) {
+            log.error(JSON_TO_OBJECT_ERROR_MESSAGE + type, e);
+            return null;
+        }
+    }
+
+    private <T> T readJson(ByteBuffer content, Type type) {
+        if (content == null || !content.hasRemaining()) {
+            return null;
+        }
+        try {
+            if (content.hasArray()) {
+                return getReader(type).readValue(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            }
+            return getReader(type).readValue(new ByteBufferBackedInputStream(content.duplicate()));
+        } catch (IOException e) {
+            log.error(JSON_TO_OBJECT_ERROR_MESSAGE + type, e);
+            return null;
+        }
+    }
+
     /**
      * 反序列化流形式的json到简单的对象
      *
@@ -154,7 +394,7 @@ public class JsonMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(stream, clazz);
+            return getReader(clazz).readValue(stream);
         } catch (IOException e) {
             log.error(STREAM_TO_JSON_ERROR_MESSAGE + clazz, e);
             return null;
@@ -175,7 +415,7 @@ public class JsonMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(stream, javaType);
+            return getReader(javaType).readValue(stream);
         } catch (IOException e) {
             log.error(STREAM_TO_JSON_ERROR_MESSAGE + javaType, e);
             return null;
@@ -195,7 +435,7 @@ public class JsonMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(content, typeReference);
+            return getReader(typeReference.getType()).readValue(content);
         } catch (IOException e) {
             log.error(JSON_TO_OBJECT_ERROR_MESSAGE + typeReference, e);
             return null;
@@ -215,7 +455,7 @@ public class JsonMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(stream, typeReference);
+            return getReader(typeReference.getType()).readValue(stream);
         } catch (IOException e) {
             log.error(STREAM_TO_JSON_ERROR_MESSAGE + typeReference, e);
             return null;
@@ -224,7 +464,7 @@ public class JsonMapper {
 
 
     /**
-     * 复制复杂的泛型对象，同时将下划线命名的字段转换为驼峰命名
+     * 复制复杂的泛型对象，同时将下划线命名的字段转换为驼峰命名，以TokenBuffer作为中间结果，不生成json文本
      *
      * @param source   下划线命名的对象
      * @param javaType 返回的对象
@@ -235,8 +475,7 @@ public class JsonMapper {
         if (source == null) {
             return null;
         }
-        String content = this.toJson(source);
-        return this.fromJson(content, javaType);
+        return convert(source, writerOf(source), getReader(javaType));
     }
 
     /**
@@ -251,8 +490,7 @@ public class JsonMapper {
         if (source == null) {
             return null;
         }
-        String content = this.toJson(source);
-        return this.fromJson(content, clazz);
+        return convert(source, writerOf(source), getReader(clazz));
     }
 
     /**
@@ -267,8 +505,78 @@ public class JsonMapper {
         if (source == null) {
             return null;
         }
-        String content = this.toJson(source);
-        return this.fromJson(content, typeReference);
+        return convert(source, writerOf(source), getReader(typeReference.getType()));
+    }
+
+    /**
+     * 逐个复制列表元素，同时将下划线命名的字段转换为驼峰命名，目标类型及相同类型元素的序列化器只解析一次
+     *
+     * @param source 下划线命名的对象列表
+     * @param clazz  返回的元素类型
+     * @param <T>    返回的元素类型
+     * @return 转换后的列表，元素转换失败时对应位置为null
+     */
+    public <T> List<T> toCamelCaseList(List<?> source, Class<T> clazz) {
+        if (source == null) {
+            return null;
+        }
+        ObjectReader reader = getReader(clazz);
+        Class<?> lastClass = null;
+        ObjectWriter lastWriter = null;
+        List<T> result = new ArrayList<>(source.size());
+        for (Object element : source) {
+            if (element == null) {
+                result.add(null);
+                continue;
+            }
+            if (element.getClass() != lastClass) {
+                lastClass = element.getClass();
+                lastWriter = getWriter(lastClass);
+            }
+            result.add(convert(element, lastWriter, reader));
+        }
+        return result;
+    }
+
+    /**
+     * 复制分页记录，同时将下划线命名的字段转换为驼峰命名，分页信息保持不变
+     *
+     * @param source 下划线命名的分页对象
+     * @param clazz  返回的记录类型
+     * @param <R>    返回的记录类型
+     * @return 转换后的分页对象
+     * @see #toCamelCaseList(List, Class)
+     */
+    public <R extends Serializable> Page<R> toCamelCasePage(Page<?> source, Class<R> clazz) {
+        if (source == null) {
+            return null;
+        }
+        return source.build(toCamelCaseList(source.getRecords(), clazz));
+    }
+
+    /**
+     * 以TokenBuffer作为中间结果复制对象，不生成json文本
+     *
+     * @param source 源对象
+     * @param writer 源对象类型的ObjectWriter
+     * @param reader 目标类型的ObjectReader
+     * @param <T>    返回的对象类型
+     * @return 转换后的对象，转换失败时返回null
+     */
+    private <T> T convert(Object source, ObjectWriter writer, ObjectReader reader) {
+        TokenBuffer buffer = new TokenBuffer(this.mapper, false);
+        if (this.mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+            buffer.forceUseOfBigDecimal(true);
+        }
+        try {
+            writer.writeValue(buffer, source);
+            try (JsonParser parser = buffer.asParser()) {
+                return reader.readValue(parser);
+            }
+        } catch (IOException e) {
+            log.error(OBJECT_TO_OBJECT_ERROR_MESSAGE + source, e);
+            return null;
+        }
     }
 
     /**
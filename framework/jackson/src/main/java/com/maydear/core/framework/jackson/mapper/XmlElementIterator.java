@@ -0,0 +1,108 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.jackson.mapper;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 按重复节点逐个绑定的XML迭代器
+ * <p>
+ * StAX游标每到达一个指定名称的节点才将其绑定为对象，内存占用只与单个节点相关，适用于数百MB的大文档。
+ * 迭代结束或调用{@link #close()}时关闭StAX游标，不关闭输入流；非线程安全。
+ * </p>
+ *
+ * @param <T> 节点对象类型
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class XmlElementIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final XmlFactory factory;
+
+    private final XMLStreamReader reader;
+
+    private final ObjectReader objectReader;
+
+    private final String elementName;
+
+    /**
+     * 游标是否停在尚未绑定的节点上
+     */
+    private boolean positioned;
+
+    private boolean closed;
+
+    XmlElementIterator(XmlFactory factory, XMLStreamReader reader, ObjectReader objectReader, String elementName) {
+        this.factory = factory;
+        this.reader = reader;
+        this.objectReader = objectReader;
+        this.elementName = elementName;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (!positioned) {
+            try {
+                positioned = XmlMapper.nextElement(reader, elementName);
+            } catch (XMLStreamException e) {
+                close();
+                throw new UncheckedIOException(new IOException("读取XML节点" + elementName + "时发生错误", e));
+            }
+            if (!positioned) {
+                close();
+            }
+        }
+        return positioned;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        positioned = false;
+        try {
+            return objectReader.readValue(factory.createParser(reader));
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new UncheckedIOException(new IOException("关闭XML读取器时发生错误", e));
+        }
+    }
+}
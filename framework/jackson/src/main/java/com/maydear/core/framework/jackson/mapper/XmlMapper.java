@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
@@ -29,11 +30,24 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 基于Jackson XmlMapper的重新封装的Xml转换工具类
@@ -50,21 +64,50 @@ public class XmlMapper {
     private static final String OBJECT_TO_XML_ERROR_MESSAGE = "将对象转换成Xml时发生错误:";
     public static final XmlMapper INSTANCE = new XmlMapper();
 
+    /**
+     * 紧凑输出（不缩进、不输出XML声明），推荐用于服务间通信
+     */
+    public static final XmlMapper COMPACT = new XmlMapper(new XmlMapperOptions());
+
     private ObjectMapper mapper;
 
+    /**
+     * 资源文件解析结果，键为（资源路径，根节点，类型）
+     */
+    private final ConcurrentMap<List<Object>, Object> resources = new ConcurrentHashMap<>();
+
+    /**
+     * 按类型缓存的ObjectReader，已完成类型解析及根反序列化器查找
+     */
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * 按类型缓存的ObjectWriter，已完成根序列化器查找
+     */
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
     public XmlMapper() {
-        this(null);
+        this((JsonInclude.Include) null);
     }
 
     public XmlMapper(JsonInclude.Include include) {
+        this(indentedOptions(include));
+    }
+
+    /**
+     * 按选项构造
+     *
+     * @param options XmlMapper选项
+     */
+    public XmlMapper(XmlMapperOptions options) {
         this.mapper = new com.fasterxml.jackson.dataformat.xml.XmlMapper()
-            .configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
-        if (include != null) {
-            this.mapper.setSerializationInclusion(include);
+            .configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, options.isWriteXmlDeclaration());
+        if (options.getInclude() != null) {
+            this.mapper.setSerializationInclusion(options.getInclude());
         }
         this.mapper
-            .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
-            .configure(SerializationFeature.INDENT_OUTPUT, true)
+            .setPropertyNamingStrategy(options.getPropertyNamingStrategy())
+            .configure(SerializationFeature.INDENT_OUTPUT, options.isIndentOutput())
             .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -72,15 +115,73 @@ public class XmlMapper {
             .configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true)
             .registerModule(new DefaultSimpleModule())
             .registerModule(new ParameterNamesModule())
-            .registerModule(new Jdk8Module())
-            .getSerializerProvider()
-            .setNullValueSerializer(new NullToEmptySerializer());
+            .registerModule(new Jdk8Module());
+        if (options.isNullToEmpty()) {
+            this.mapper
+                .getSerializerProvider()
+                .setNullValueSerializer(new NullToEmptySerializer());
+        }
+    }
+
+    private static XmlMapperOptions indentedOptions(JsonInclude.Include include) {
+        XmlMapperOptions options = XmlMapperOptions.indented();
+        options.setInclude(include);
+        return options;
     }
 
     public XmlMapper configure(SerializationFeature serializationFeature, boolean state) {
         this.mapper.configure(serializationFeature, state);
+        clearCache();
         return this;
     }
+
+    /**
+     * 获取指定类型的ObjectReader，首次获取后缓存
+     *
+     * @param type 对象类型，如{@link Class}、{@link JavaType}
+     * @return 返回ObjectReader
+     */
+    public ObjectReader getReader(Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = readers.computeIfAbsent(type, key -> this.mapper.readerFor(this.mapper.getTypeFactory().constructType(key)));
+        }
+        return reader;
+    }
+
+    /**
+     * 获取指定类型的ObjectWriter，首次获取后缓存
+     *
+     * @param clazz 对象类型
+     * @return 返回ObjectWriter
+     */
+    public ObjectWriter getWriter(Class<?> clazz) {
+        ObjectWriter writer = writers.get(clazz);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(clazz, this.mapper::writerFor);
+        }
+        return writer;
+    }
+
+    /**
+     * 获取对象运行时类型的ObjectWriter
+     *
+     * @param object 需要转换的对象
+     * @return 返回ObjectWriter
+     */
+    private ObjectWriter writerOf(Object object) {
+        return object == null ? this.mapper.writer() : getWriter(object.getClass());
+    }
+
+    /**
+     * 清除已缓存的ObjectReader/ObjectWriter及资源文件解析结果，直接修改{@link #getMapper()}的配置后须调用
+     */
+    public void clearCache() {
+        readers.clear();
+        writers.clear();
+        resources.clear();
+    }
+
     /**
      * 将bean转成xml
      *
@@ -89,7 +190,7 @@ public class XmlMapper {
      */
     public String toXml(Object object) {
         try {
-            return this.mapper.writeValueAsString(object);
+            return writerOf(object).writeValueAsString(object);
         } catch (JsonProcessingException e) {
             logger.warn(OBJECT_TO_XML_ERROR_MESSAGE + object, e);
             return null;
@@ -109,7 +210,7 @@ public class XmlMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(content, clazz);
+            return getReader(clazz).readValue(content);
         } catch (IOException e) {
             logger.warn(XML_TO_OBJECT_ERROR_MESSAGE + clazz, e);
             return null;
@@ -131,7 +232,7 @@ public class XmlMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(content, javaType);
+            return getReader(javaType).readValue(content);
         } catch (IOException e) {
             logger.warn(XML_TO_OBJECT_ERROR_MESSAGE + content, e);
             return null;
@@ -151,7 +252,7 @@ public class XmlMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(stream, clazz);
+            return getReader(clazz).readValue(stream);
         } catch (IOException e) {
             logger.warn(STREAM_TO_XML_ERROR_MESSAGE + clazz, e);
             return null;
@@ -172,7 +273,7 @@ public class XmlMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(stream, javaType);
+            return getReader(javaType).readValue(stream);
         } catch (IOException e) {
             logger.warn(STREAM_TO_XML_ERROR_MESSAGE + javaType, e);
             return null;
@@ -193,7 +294,7 @@ public class XmlMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(content, typeReference);
+            return getReader(typeReference.getType()).readValue(content);
         } catch (IOException e) {
             logger.warn(STREAM_TO_XML_ERROR_MESSAGE + typeReference, e);
             return null;
@@ -214,7 +315,7 @@ public class XmlMapper {
             return null;
         }
         try {
-            return this.mapper.readValue(stream, typeReference);
+            return getReader(typeReference.getType()).readValue(stream);
         } catch (IOException e) {
             logger.warn(STREAM_TO_XML_ERROR_MESSAGE + typeReference, e);
             return null;
@@ -230,7 +331,7 @@ public class XmlMapper {
      * @return 反序列化后的对象
      */
     public <T> T fromResourceXml(String path, JavaType javaType) {
-        return this.fromXml(getResourceContent(path), javaType);
+        return readResource(path, javaType, null);
     }
 
     /**
@@ -243,7 +344,7 @@ public class XmlMapper {
      * @return 反序列化后的对象
      */
     public <T> T fromResourceXml(String path, JavaType javaType, String rootNodeName) {
-        return this.fromXml(getResourceContent(path, rootNodeName), javaType);
+        return readResource(path, javaType, rootNodeName);
     }
 
     /**
@@ -255,7 +356,7 @@ public class XmlMapper {
      * @return 反序列化后的对象
      */
     public <T> T fromResourceXml(String path, Class<T> clazz) {
-        return this.fromXml(getResourceContent(path), clazz);
+        return readResource(path, this.mapper.constructType(clazz), null);
     }
 
     /**
@@ -268,7 +369,7 @@ public class XmlMapper {
      * @return 反序列化后的对象
      */
     public <T> T fromResourceXml(String path, Class<T> clazz, String rootNodeName) {
-        return this.fromXml(getResourceContent(path, rootNodeName), clazz);
+        return readResource(path, this.mapper.constructType(clazz), rootNodeName);
     }
 
     /**
@@ -281,7 +382,7 @@ public class XmlMapper {
      * @return 反序列化后的对象
      */
     public <T> T fromResourceXml(String path, TypeReference typeReference) {
-        return this.fromXml(getResourceContent(path), typeReference);
+        return readResource(path, this.mapper.getTypeFactory().constructType(typeReference), null);
     }
 
     /**
@@ -295,7 +396,232 @@ public class XmlMapper {
      * @return 反序列化后的对象
      */
     public <T> T fromResourceXml(String path, TypeReference typeReference, String rootNodeName) {
-        return this.fromXml(getResourceContent(path, rootNodeName), typeReference);
+        return readResource(path, this.mapper.getTypeFactory().constructType(typeReference), rootNodeName);
+    }
+
+    /**
+     * 反序列化XML文件到复杂的泛型对象，解析结果被缓存
+     *
+     * @param path     xml文件路径
+     * @param javaType 输出的对象类型
+     * @param <T>      返回的对象类型
+     * @return 反序列化后的对象，由各调用方共享，不应被修改
+     */
+    public <T> T fromCachedResourceXml(String path, JavaType javaType) {
+        return fromCachedResource(path, javaType, null);
+    }
+
+    /**
+     * 反序列化XML文件到复杂的泛型对象，解析结果被缓存
+     *
+     * @param path         xml文件路径
+     * @param javaType     输出的对象类型
+     * @param rootNodeName 开始读取的根节点
+     * @param <T>          返回的对象类型
+     * @return 反序列化后的对象，由各调用方共享，不应被修改
+     */
+    public <T> T fromCachedResourceXml(String path, JavaType javaType, String rootNodeName) {
+        return fromCachedResource(path, javaType, rootNodeName);
+    }
+
+    /**
+     * 反序列化XML文件到简单的对象，解析结果被缓存
+     *
+     * @param path  xml文件路径
+     * @param clazz 输出的对象类型
+     * @param <T>   返回的对象类型
+     * @return 反序列化后的对象，由各调用方共享，不应被修改
+     */
+    public <T> T fromCachedResourceXml(String path, Class<T> clazz) {
+        return fromCachedResource(path, this.mapper.constructType(clazz), null);
+    }
+
+    /**
+     * 反序列化XML文件到简单的对象，解析结果被缓存
+     *
+     * @param path         xml文件路径
+     * @param clazz        输出的对象类型
+     * @param rootNodeName 开始读取的根节点
+     * @param <T>          返回的对象类型
+     * @return 反序列化后的对象，由各调用方共享，不应被修改
+     */
+    public <T> T fromCachedResourceXml(String path, Class<T> clazz, String rootNodeName) {
+        return fromCachedResource(path, this.mapper.constructType(clazz), rootNodeName);
+    }
+
+    /**
+     * 反序列化XML文件到复杂的泛型对象，解析结果被缓存
+     *
+     * @param path          xml文件路径
+     * @param typeReference 输出的对象类型
+     * @param <T>           返回的对象类型
+     * @return 反序列化后的对象，由各调用方共享，不应被修改
+     */
+    public <T> T fromCachedResourceXml(String path, TypeReference typeReference) {
+        return fromCachedResource(path, this.mapper.getTypeFactory().constructType(typeReference), null);
+    }
+
+    /**
+     * 反序列化XML文件到复杂的泛型对象，解析结果被缓存
+     *
+     * @param path          xml文件路径
+     * @param typeReference 输出的对象类型
+     * @param rootNodeName  开始读取的根节点
+     * @param <T>           返回的对象类型
+     * @return 反序列化后的对象，由各调用方共享，不应被修改
+     */
+    public <T> T fromCachedResourceXml(String path, TypeReference typeReference, String rootNodeName) {
+        return fromCachedResource(path, this.mapper.getTypeFactory().constructType(typeReference), rootNodeName);
+    }
+
+    /**
+     * 按重复节点逐个读取流形式的XML，StAX游标到达节点时才绑定对象，内存占用只与单个节点相关
+     *
+     * @param stream      流形式的xml，迭代结束后不关闭
+     * @param elementName 重复节点名称（不含命名空间前缀）
+     * @param clazz       节点对象类型
+     * @param <T>         返回的对象类型
+     * @return 延迟绑定的迭代器，读取发生错误时迭代抛出{@link java.io.UncheckedIOException}
+     */
+    public <T> XmlElementIterator<T> readElements(InputStream stream, String elementName, Class<T> clazz) {
+        return readElements(stream, elementName, this.mapper.constructType(clazz));
+    }
+
+    /**
+     * 按重复节点逐个读取流形式的XML，StAX游标到达节点时才绑定对象，内存占用只与单个节点相关
+     *
+     * @param stream      流形式的xml，迭代结束后不关闭
+     * @param elementName 重复节点名称（不含命名空间前缀）
+     * @param javaType    节点对象类型
+     * @param <T>         返回的对象类型
+     * @return 延迟绑定的迭代器，读取发生错误时迭代抛出{@link java.io.UncheckedIOException}
+     */
+    public <T> XmlElementIterator<T> readElements(InputStream stream, String elementName, JavaType javaType) {
+        XmlFactory factory = (XmlFactory) this.mapper.getFactory();
+        try {
+            XMLStreamReader reader = factory.getXMLInputFactory().createXMLStreamReader(stream);
+            return new XmlElementIterator<>(factory, reader, getReader(javaType), elementName);
+        } catch (XMLStreamException e) {
+            throw new UncheckedIOException(new IOException(STREAM_TO_XML_ERROR_MESSAGE + javaType, e));
+        }
+    }
+
+    /**
+     * 按重复节点逐个读取流形式的XML，返回顺序流，关闭流时关闭StAX游标
+     *
+     * @param stream      流形式的xml，不随返回的流关闭
+     * @param elementName 重复节点名称（不含命名空间前缀）
+     * @param clazz       节点对象类型
+     * @param <T>         返回的对象类型
+     * @return 延迟绑定的顺序流
+     */
+    public <T> Stream<T> streamElements(InputStream stream, String elementName, Class<T> clazz) {
+        return streamElements(stream, elementName, this.mapper.constructType(clazz));
+    }
+
+    /**
+     * 按重复节点逐个读取流形式的XML，返回顺序流，关闭流时关闭StAX游标
+     *
+     * @param stream      流形式的xml，不随返回的流关闭
+     * @param elementName 重复节点名称（不含命名空间前缀）
+     * @param javaType    节点对象类型
+     * @param <T>         返回的对象类型
+     * @return 延迟绑定的顺序流
+     */
+    public <T> Stream<T> streamElements(InputStream stream, String elementName, JavaType javaType) {
+        XmlElementIterator<T> iterator = readElements(stream, elementName, javaType);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(iterator::close);
+    }
+
+    /**
+     * 清空{@code fromCachedResourceXml}缓存的解析结果，资源文件内容变化时调用
+     */
+    public void clearResourceCache() {
+        resources.clear();
+    }
+
+    /**
+     * 按（资源路径，根节点，类型）缓存资源文件的解析结果，同一资源只读取并解析一次。
+     * 缓存的对象为各调用方共享，不应被修改
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T fromCachedResource(String path, JavaType javaType, String rootNodeName) {
+        if (StringUtils.isBlank(path)) {
+            return null;
+        }
+        List<Object> key = Arrays.asList(normalizePath(path), StringUtils.defaultString(rootNodeName), javaType);
+        Object value = resources.get(key);
+        if (value == null) {
+            value = readResource(path, javaType, rootNodeName);
+            if (value != null) {
+                Object previous = resources.putIfAbsent(key, value);
+                if (previous != null) {
+                    value = previous;
+                }
+            }
+        }
+        return (T) value;
+    }
+
+    /**
+     * 资源路径统一以"/"开头
+     */
+    private static String normalizePath(String path) {
+        String prefix = "/";
+        return StringUtils.startsWith(path, prefix) ? path : prefix + path;
+    }
+
+    /**
+     * 读取并解析资源文件，指定根节点时由StAX游标定位到根节点后直接绑定，不复制文档内容
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T readResource(String path, JavaType javaType, String rootNodeName) {
+        if (StringUtils.isBlank(path)) {
+            return null;
+        }
+        path = normalizePath(path);
+        try (InputStream stream = XmlMapper.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                logger.warn("XML文件不存在：" + path);
+                return null;
+            }
+            if (StringUtils.isBlank(rootNodeName)) {
+                return (T) getReader(javaType).readValue(stream);
+            }
+
+            XmlFactory factory = (XmlFactory) this.mapper.getFactory();
+            XMLStreamReader reader = factory.getXMLInputFactory().createXMLStreamReader(stream);
+            try {
+                if (!nextElement(reader, rootNodeName)) {
+                    logger.warn("XML文件" + path + "中不存在节点：" + rootNodeName);
+                    return null;
+                }
+                return (T) getReader(javaType).readValue(factory.createParser(reader));
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            logger.warn("读取XML文件是发生错误。" + e);
+            return null;
+        }
+    }
+
+    /**
+     * 将StAX游标移动到下一个指定名称的开始节点
+     *
+     * @param reader    StAX游标
+     * @param localName 节点名称（不含命名空间前缀）
+     * @return 找到节点返回true，到达文档末尾返回false
+     * @throws XMLStreamException 读取发生错误时抛出的异常
+     */
+    static boolean nextElement(XMLStreamReader reader, String localName) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && localName.equals(reader.getLocalName())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.jackson.mapper;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * XmlMapper选项
+ * <p>
+ * 默认为服务间通信推荐的紧凑输出：不缩进、不输出XML声明；{@link #indented()}为缩进并输出XML声明的可读格式。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Data
+public class XmlMapperOptions implements Serializable {
+
+    private static final long serialVersionUID = -2716410958311027645L;
+
+    /**
+     * 是否缩进输出
+     */
+    private boolean indentOutput;
+
+    /**
+     * 是否输出XML声明
+     */
+    private boolean writeXmlDeclaration;
+
+    /**
+     * 是否将null输出为空节点，为false时按{@link #include}规则处理
+     */
+    private boolean nullToEmpty = true;
+
+    /**
+     * 序列化包含规则，为空时使用Jackson默认规则
+     */
+    private JsonInclude.Include include;
+
+    /**
+     * 属性命名策略，为空时与字段名一致
+     */
+    private PropertyNamingStrategy propertyNamingStrategy = PropertyNamingStrategy.SNAKE_CASE;
+
+    /**
+     * 缩进并输出XML声明的可读格式
+     *
+     * @return 返回选项
+     */
+    public static XmlMapperOptions indented() {
+        XmlMapperOptions options = new XmlMapperOptions();
+        options.setIndentOutput(true);
+        options.setWriteXmlDeclaration(true);
+        return options;
+    }
+}
@@ -22,6 +22,8 @@ import com.fasterxml.jackson.datatype.jsr310.deser.*;
 import com.fasterxml.jackson.datatype.jsr310.deser.key.*;
 import com.fasterxml.jackson.datatype.jsr310.ser.*;
 import com.fasterxml.jackson.datatype.jsr310.ser.key.ZonedDateTimeKeySerializer;
+import com.maydear.core.framework.StreamingPage;
+import com.maydear.core.framework.jackson.serializer.StreamingPageSerializer;
 
 import java.time.*;
 
@@ -83,6 +85,9 @@ public final class DefaultSimpleModule extends SimpleModule {
 
         addSerializer(ZoneOffset.class, new ToStringSerializer(ZoneOffset.class));
 
+        // streaming page: records are written and flushed incrementally
+        addSerializer(StreamingPage.class, new StreamingPageSerializer());
+
         // key serializers
         addKeySerializer(ZonedDateTime.class, ZonedDateTimeKeySerializer.INSTANCE);
 
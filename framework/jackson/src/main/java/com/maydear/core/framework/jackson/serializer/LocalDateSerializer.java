@@ -25,15 +25,45 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * LocalDate序列化格式
+ * <p>
+ * 格式为yyyy-MM-dd，公元1至9999年直接写出数字字符，其余年份使用静态格式化器
+ * </p>
  *
  * @author mechanic
  * @version 0.0.1
  */
 public class LocalDateSerializer extends JsonSerializer<LocalDate> {
 
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final int DATE_LENGTH = 10;
+
+    private static final int MAX_YEAR = 9999;
+
     @Override
     public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider serializers)
         throws IOException {
-        gen.writeString(value.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        int year = value.getYear();
+        if (year < 1 || year > MAX_YEAR) {
+            gen.writeString(value.format(FORMATTER));
+            return;
+        }
+        char[] buffer = new char[DATE_LENGTH];
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        gen.writeString(buffer, 0, DATE_LENGTH);
+    }
+
+    /**
+     * 按固定位数写入数字，不足位数时补0
+     */
+    private static void writeDigits(char[] buffer, int offset, int value, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 }
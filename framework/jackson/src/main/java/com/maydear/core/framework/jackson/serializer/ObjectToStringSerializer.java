@@ -23,12 +23,20 @@ import java.io.IOException;
 
 /**
  * 自定义Jackson序列化转换器
+ * <p>
+ * 整数类型直接写出十进制字符，不经过toString
+ * </p>
  *
  * @author mechanic
  * @version 0.0.1
  */
 public class ObjectToStringSerializer extends JsonSerializer<Object> {
 
+    /**
+     * long十进制表示的最大长度（含负号）
+     */
+    static final int MAX_LONG_LENGTH = 20;
+
     /**
      * Method that can be called to ask implementation to serialize
      * values of type this serializer handles.
@@ -40,6 +48,34 @@ public class ObjectToStringSerializer extends JsonSerializer<Object> {
     @Override
     public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers)
       throws IOException {
-        gen.writeString(value == null ? "" : value.toString());
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            char[] buffer = new char[MAX_LONG_LENGTH];
+            int offset = writeLong(((Number) value).longValue(), buffer);
+            gen.writeString(buffer, offset, MAX_LONG_LENGTH - offset);
+        } else {
+            gen.writeString(value == null ? "" : value.toString());
+        }
+    }
+
+    /**
+     * 将整数的十进制字符从缓冲区末尾向前写入，不经过String
+     *
+     * @param value  整数
+     * @param buffer 长度不小于{@link #MAX_LONG_LENGTH}的缓冲区
+     * @return 返回首个字符的位置
+     */
+    static int writeLong(long value, char[] buffer) {
+        int offset = buffer.length;
+        // 以负数计算，Long.MIN_VALUE取反会溢出
+        long remaining = value < 0 ? value : -value;
+        do {
+            long quotient = remaining / 10;
+            buffer[--offset] = (char) ('0' + (quotient * 10 - remaining));
+            remaining = quotient;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--offset] = '-';
+        }
+        return offset;
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 将BigDecimal按固定小数位数（四舍五入）序列化为字符串
+ * <p>
+ * 小数位数已经一致时不再调用setScale，省去一次BigDecimal分配。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class ScaledDecimalSerializer extends JsonSerializer<BigDecimal> {
+
+    private final int scale;
+
+    public ScaledDecimalSerializer(int scale) {
+        this.scale = scale;
+    }
+
+    @Override
+    public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+        BigDecimal scaled = value.scale() == scale ? value : value.setScale(scale, RoundingMode.HALF_UP);
+        gen.writeString(scaled.toPlainString());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.maydear.core.framework.StreamingPage;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 流式分页对象序列化转换器
+ * <p>
+ * 先输出分页信息再逐条输出记录，每输出{@link #getFlushSize()}条记录刷新一次，使记录分批写入响应，
+ * 内存占用与记录总数无关。序列化完成或失败后关闭流式分页对象的底层资源。
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@SuppressWarnings("rawtypes")
+public class StreamingPageSerializer extends StdSerializer<StreamingPage> {
+
+    private static final long serialVersionUID = 5871526843064120431L;
+
+    /**
+     * 默认每批刷新的记录数
+     */
+    public static final int DEFAULT_FLUSH_SIZE = 500;
+
+    private final int flushSize;
+
+    public StreamingPageSerializer() {
+        this(DEFAULT_FLUSH_SIZE);
+    }
+
+    /**
+     * @param flushSize 每批刷新的记录数
+     */
+    public StreamingPageSerializer(int flushSize) {
+        super(StreamingPage.class);
+        this.flushSize = flushSize;
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    @Override
+    public void serialize(StreamingPage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try (StreamingPage<?> page = value) {
+            gen.writeStartObject();
+            gen.writeNumberField("pageSize", page.getPageSize());
+            gen.writeNumberField("pageIndex", page.getPageIndex());
+            gen.writeNumberField("pageCount", page.getPageCount());
+            gen.writeNumberField("recordCount", page.getRecordCount());
+            gen.writeArrayFieldStart("records");
+            Iterator<?> records = page.iterator();
+            int count = 0;
+            while (records.hasNext()) {
+                provider.defaultSerializeValue(records.next(), gen);
+                if (++count == flushSize) {
+                    gen.flush();
+                    count = 0;
+                }
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.maydear.core.framework.PackageObjectBuilder;
 import com.maydear.core.framework.StandardStatusCode;
 import com.maydear.core.framework.annotation.NotUsePackageObject;
 import com.maydear.core.framework.jackson.mapper.JsonMapper;
+import com.maydear.core.framework.spring.web.configuration.BinaryJsonConfigurer;
 import com.maydear.core.framework.spring.web.util.RequestUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
@@ -73,6 +74,10 @@ public class ResponseHandlerAdvice implements ResponseBodyAdvice {
             } else {
                 PackageObject packageObject = PackageObjectBuilder.getPackageObject(body, RequestUtils.getRequestedId());
                 if (body instanceof String) {
+                    // String由StringHttpMessageConverter输出，协商为二进制json时仍输出json文本，需改正响应类型
+                    if (BinaryJsonConfigurer.isBinaryJson(selectedContentType)) {
+                        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    }
                     return JsonMapper.INSTANCE.toJson(packageObject);
                 } else {
                     return authorizedFilter(packageObject, response);
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.spring.web.configuration;
+
+import com.maydear.core.framework.jackson.CborConverterImpl;
+import com.maydear.core.framework.jackson.SmileConverterImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 二进制json（Smile、CBOR）消息转换配置
+ * <p>
+ * 请求头Accept为application/x-jackson-smile或application/cbor时以对应格式输出，Content-Type为对应格式的请求体同样可以读取。
+ * 转换器追加在已有转换器之后，未指定格式的请求仍然输出json。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Configuration
+public class BinaryJsonConfigurer implements WebMvcConfigurer {
+
+    /**
+     * Smile媒体类型
+     */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * CBOR媒体类型
+     */
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(SmileConverterImpl.MAPPER.getMapper()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(CborConverterImpl.MAPPER.getMapper()));
+    }
+
+    /**
+     * 是否为二进制json媒体类型
+     *
+     * @param mediaType 媒体类型
+     * @return Smile或CBOR时返回true
+     */
+    public static boolean isBinaryJson(MediaType mediaType) {
+        return mediaType != null && (APPLICATION_SMILE.isCompatibleWith(mediaType) || APPLICATION_CBOR.isCompatibleWith(mediaType));
+    }
+}
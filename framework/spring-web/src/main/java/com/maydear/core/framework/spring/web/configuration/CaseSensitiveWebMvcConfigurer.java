@@ -15,8 +15,8 @@
  */
 package com.maydear.core.framework.spring.web.configuration;
 
+import com.maydear.core.framework.spring.web.util.CaseInsensitivePathMatcher;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -42,8 +42,6 @@ public class CaseSensitiveWebMvcConfigurer implements WebMvcConfigurer {
      */
     @Override
     public void configurePathMatch(PathMatchConfigurer configurer) {
-        AntPathMatcher matcher = new AntPathMatcher();
-        matcher.setCaseSensitive(false);
-        configurer.setPathMatcher(matcher);
+        configurer.setPathMatcher(new CaseInsensitivePathMatcher());
     }
 }
\ No newline at end of file
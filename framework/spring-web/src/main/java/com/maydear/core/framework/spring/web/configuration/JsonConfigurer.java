@@ -17,6 +17,7 @@ package com.maydear.core.framework.spring.web.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.maydear.core.framework.jackson.mapper.JsonMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,11 +31,16 @@ import org.springframework.context.annotation.Configuration;
 public class JsonConfigurer {
 
     /**
-     * 注入ObjectMapper
+     * 注入ObjectMapper，配置maydear.jackson.afterburner=true时注册Afterburner模块
+     *
+     * @param afterburner 是否注册Afterburner模块
      * @return 返回ObjectMapper
      */
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(@Value("${" + JsonMapper.AFTERBURNER_PROPERTY + ":false}") boolean afterburner) {
+        if (afterburner) {
+            JsonMapper.INSTANCE.registerAfterburnerModule();
+        }
         return JsonMapper.INSTANCE.getMapper();
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.framework.spring.web.util;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 大小写不敏感的预编译路径匹配器
+ * <p>
+ * 路由模式首次使用时由{@link PathPatternParser}编译为小写的{@link PathPattern}并缓存，请求路径在同一线程内只解析一次，
+ * 之后与各路由模式的匹配不再重复分词。PathPattern不支持的模式（如位于中间的**）仍由大小写不敏感的{@link AntPathMatcher}匹配；
+ * 模式比较、合并及提取模式内路径等与模式字符串相关的操作同样委托给{@link AntPathMatcher}。
+ * </p>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+public class CaseInsensitivePathMatcher implements PathMatcher {
+
+    /**
+     * 缓存上限，超出后清空，避免动态拼接的模式无限增长
+     */
+    private static final int CACHE_LIMIT = 65536;
+
+    private static final String DOUBLE_WILDCARD = "**";
+
+    /**
+     * 无法由PathPatternParser编译的模式的占位
+     */
+    private static final PathPattern UNSUPPORTED = new PathPatternParser().parse("/");
+
+    private final PathPatternParser parser = new PathPatternParser();
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private final ConcurrentMap<String, PathPattern> patterns = new ConcurrentHashMap<>();
+
+    /**
+     * 当前线程最近一次解析的请求路径，一次请求内与所有路由模式的匹配共用
+     */
+    private final ThreadLocal<ParsedPath> lastPath = new ThreadLocal<>();
+
+    public CaseInsensitivePathMatcher() {
+        parser.setCaseSensitive(false);
+        // 末尾分隔符由RequestMapping的trailingSlashMatch处理，与AntPathMatcher保持一致
+        parser.setMatchOptionalTrailingSeparator(false);
+        antPathMatcher.setCaseSensitive(false);
+    }
+
+    @Override
+    public boolean isPattern(String path) {
+        return antPathMatcher.isPattern(path);
+    }
+
+    @Override
+    public boolean match(String pattern, String path) {
+        PathPattern pathPattern = getPathPattern(pattern);
+        if (pathPattern != UNSUPPORTED && isAbsolute(pattern, path)) {
+            PathContainer container = parsePath(path);
+            if (container != null) {
+                return pathPattern.matches(container);
+            }
+        }
+        return antPathMatcher.match(pattern, path);
+    }
+
+    @Override
+    public boolean matchStart(String pattern, String path) {
+        return antPathMatcher.matchStart(pattern, path);
+    }
+
+    @Override
+    public String extractPathWithinPattern(String pattern, String path) {
+        return antPathMatcher.extractPathWithinPattern(pattern, path);
+    }
+
+    @Override
+    public Map<String, String> extractUriTemplateVariables(String pattern, String path) {
+        PathPattern pathPattern = getPathPattern(pattern);
+        if (pathPattern != UNSUPPORTED && isAbsolute(pattern, path)) {
+            PathContainer container = parsePath(path);
+            if (container != null) {
+                PathPattern.PathMatchInfo matchInfo = pathPattern.matchAndExtract(container);
+                if (matchInfo == null) {
+                    throw new IllegalStateException("Pattern \"" + pattern + "\" is not a match for \"" + path + "\"");
+                }
+                return matchInfo.getUriVariables();
+            }
+        }
+        return antPathMatcher.extractUriTemplateVariables(pattern, path);
+    }
+
+    @Override
+    public Comparator<String> getPatternComparator(String path) {
+        return antPathMatcher.getPatternComparator(path);
+    }
+
+    @Override
+    public String combine(String pattern1, String pattern2) {
+        return antPathMatcher.combine(pattern1, pattern2);
+    }
+
+    /**
+     * 获取已编译的模式，首次使用时编译并缓存
+     */
+    private PathPattern getPathPattern(String pattern) {
+        PathPattern pathPattern = patterns.get(pattern);
+        if (pathPattern == null) {
+            pathPattern = compile(pattern);
+            if (patterns.size() >= CACHE_LIMIT) {
+                patterns.clear();
+            }
+            patterns.put(pattern, pathPattern);
+        }
+        return pathPattern;
+    }
+
+    private PathPattern compile(String pattern) {
+        // PathPattern中的**只能位于末尾，其余位置会被当作单段通配，与Ant语义不同
+        int index = pattern.indexOf(DOUBLE_WILDCARD);
+        if (index >= 0 && (index != pattern.length() - DOUBLE_WILDCARD.length() || index == 0 || pattern.charAt(index - 1) != '/')) {
+            return UNSUPPORTED;
+        }
+        try {
+            return parser.parse(pattern);
+        } catch (PatternParseException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * PathPattern按分隔符分段匹配，模式与路径须同为以/开头的绝对路径
+     */
+    private static boolean isAbsolute(String pattern, String path) {
+        return pattern.startsWith("/") && path.startsWith("/");
+    }
+
+    /**
+     * 解析请求路径，同一线程连续匹配同一路径时复用解析结果
+     *
+     * @param path 请求路径
+     * @return 返回解析后的路径，含%或;时返回null
+     */
+    private PathContainer parsePath(String path) {
+        ParsedPath parsedPath = lastPath.get();
+        if (parsedPath != null && (parsedPath.path == path || parsedPath.path.equals(path))) {
+            return parsedPath.container;
+        }
+        // PathContainer会再次解码并去除矩阵参数，而传入的路径已经解码，此时按原样交给AntPathMatcher
+        PathContainer container = path.indexOf('%') >= 0 || path.indexOf(';') >= 0 ? null : PathContainer.parsePath(path);
+        lastPath.set(new ParsedPath(path, container));
+        return container;
+    }
+
+    private static final class ParsedPath {
+
+        private final String path;
+
+        private final PathContainer container;
+
+        private ParsedPath(String path, PathContainer container) {
+            this.path = path;
+            this.container = container;
+        }
+    }
+}
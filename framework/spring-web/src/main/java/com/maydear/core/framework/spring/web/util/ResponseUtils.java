@@ -102,7 +102,7 @@ public final class ResponseUtils {
         } else {
             packageObject = PackageObjectBuilder.getPackageObjectException(new NotFoundException(), RequestUtils.getRequestedId());
         }
-        response.getWriter().write(JsonMapper.INSTANCE.toJson(packageObject));
+        JsonMapper.INSTANCE.writeTo(packageObject, response.getOutputStream());
     }
     /**
      * 直接输出包裹格式响应消息
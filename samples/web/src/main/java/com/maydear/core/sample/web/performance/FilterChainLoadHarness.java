@@ -0,0 +1,283 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.sample.web.performance;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.maydear.core.authorization.AuthenticationScheme;
+import com.maydear.core.authorization.AuthenticationService;
+import com.maydear.core.authorization.AuthenticationServiceFactory;
+import com.maydear.core.authorization.AuthorizationIdentityRole;
+import com.maydear.core.sample.web.StartupApplication;
+import com.maydear.core.springboot.web.util.StartupApplicationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.ORIGIN;
+
+/**
+ * 过滤器链端到端压测工具
+ * <p>
+ * 以performance配置启动示例应用（随机端口，仅监听本机），通过HTTP/1.1长连接并发驱动匿名、预检以及各认证架构的请求，
+ * 依次经过OptionsRequestFilter、HeaderAuthorizationFilter、RoleFilterSecurityInterceptor，输出吞吐量、延迟百分位以及
+ * 服务端线程每请求分配字节数。可通过以下系统属性调整：
+ * <ul>
+ *     <li>harness.threads 并发线程数，默认16</li>
+ *     <li>harness.warmup 每个场景预热秒数，默认5</li>
+ *     <li>harness.duration 每个场景测量秒数，默认15</li>
+ *     <li>harness.identities 认证场景使用的身份数量，默认100</li>
+ *     <li>harness.serverThreadPrefix 服务端线程名前缀，默认XNIO-（Undertow）</li>
+ * </ul>
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Slf4j
+public final class FilterChainLoadHarness {
+
+    private static final String ANONYMOUS_PATH = "/v1/auth/getAllUrl";
+
+    private static final String AUTHORIZED_PATH = "/v1/auth/info";
+
+    private static final int INITIAL_LATENCY_CAPACITY = 1 << 16;
+
+    private final String baseUrl;
+
+    private final int threads;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    private final String serverThreadPrefix;
+
+    private final HttpClient httpClient;
+
+    private FilterChainLoadHarness(int port) {
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.threads = Integer.getInteger("harness.threads", 16);
+        this.warmup = Duration.ofSeconds(Integer.getInteger("harness.warmup", 5));
+        this.duration = Duration.ofSeconds(Integer.getInteger("harness.duration", 15));
+        this.serverThreadPrefix = System.getProperty("harness.serverThreadPrefix", "XNIO-");
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupApplicationUtils.disableAccessWarnings();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupApplication.class)
+            .profiles("performance")
+            .properties("server.port=0", "server.address=127.0.0.1")
+            .run(args);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            FilterChainLoadHarness harness = new FilterChainLoadHarness(port);
+            List<LoadReport> reports = harness.runAll();
+            log.info("过滤器链压测结果：");
+            reports.forEach(report -> log.info(report.toString()));
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 执行所有场景
+     *
+     * @return 返回各场景结果
+     */
+    private List<LoadReport> runAll() throws InterruptedException {
+        int identities = Integer.getInteger("harness.identities", 100);
+        List<HttpRequest> anonymous = Lists.newArrayList(get(ANONYMOUS_PATH, null));
+        List<HttpRequest> preflight = Lists.newArrayList(preflight(AUTHORIZED_PATH));
+
+        List<LoadScenario> scenarios = Lists.newArrayList();
+        scenarios.add(new LoadScenario("anonymous", anonymous));
+        scenarios.add(new LoadScenario("preflight", preflight));
+        addAuthorizedScenarios(scenarios, "customize", AuthenticationScheme.CUSTOMIZE_SCHEME_NAME, identities, anonymous);
+        addAuthorizedScenarios(scenarios, "jwt", AuthenticationScheme.JWT_SCHEME_NAME, identities, anonymous);
+
+        List<LoadReport> reports = Lists.newArrayList();
+        for (LoadScenario scenario : scenarios) {
+            log.info("场景[{}]预热{}秒", scenario.getName(), warmup.getSeconds());
+            run(scenario, warmup);
+            log.info("场景[{}]测量{}秒", scenario.getName(), duration.getSeconds());
+            reports.add(run(scenario, duration));
+        }
+        return reports;
+    }
+
+    /**
+     * 添加指定认证架构的已认证场景，以及与匿名请求各占一半的混合场景
+     */
+    private void addAuthorizedScenarios(List<LoadScenario> scenarios, String name, String schemeName, int identities, List<HttpRequest> anonymous) {
+        List<HttpRequest> authorized = Lists.newArrayListWithCapacity(identities);
+        try {
+            AuthenticationService service = AuthenticationServiceFactory.getAuthenticationService(schemeName);
+            if (service == null || !schemeName.equals(service.getScheme())) {
+                log.warn("认证架构[{}]未装配，跳过该场景", name);
+                return;
+            }
+            List<AuthorizationIdentityRole> roles = Lists.newArrayList(AuthorizationIdentityRole.builder().name("user").displayText("用户").build());
+            for (int i = 0; i < identities; i++) {
+                String identity = String.valueOf(13800000000L + i);
+                Map<String, Object> payload = Maps.newHashMap();
+                payload.put("mobile", identity);
+                authorized.add(get(AUTHORIZED_PATH, service.signIn(identity, roles, payload)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("认证架构[{}]登录失败，跳过该场景：{}", name, e.getMessage());
+            return;
+        }
+
+        List<HttpRequest> mixed = Lists.newArrayListWithCapacity(authorized.size() * 2);
+        for (HttpRequest request : authorized) {
+            mixed.add(request);
+            mixed.add(anonymous.get(0));
+        }
+        scenarios.add(new LoadScenario(name, authorized));
+        scenarios.add(new LoadScenario(name + "+anonymous", mixed));
+    }
+
+    /**
+     * 在固定时长内以闭环方式执行场景
+     *
+     * @param scenario 场景
+     * @param runFor   执行时长
+     * @return 返回执行结果
+     */
+    private LoadReport run(LoadScenario scenario, Duration runFor) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = Lists.newArrayListWithCapacity(threads);
+
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[INITIAL_LATENCY_CAPACITY];
+                int count = 0;
+                start.await();
+                long deadline = System.nanoTime() + runFor.toNanos();
+                long begin;
+                while ((begin = System.nanoTime()) < deadline) {
+                    HttpRequest request = scenario.getRequest(sequence.getAndIncrement());
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 != 2) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count << 1);
+                    }
+                    latencies[count++] = System.nanoTime() - begin;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        Map<Long, Long> allocatedBefore = serverThreadAllocatedBytes();
+        long begin = System.nanoTime();
+        start.countDown();
+
+        long[] merged = new long[0];
+        for (Future<long[]> future : futures) {
+            try {
+                long[] latencies = future.get();
+                int offset = merged.length;
+                merged = Arrays.copyOf(merged, offset + latencies.length);
+                System.arraycopy(latencies, 0, merged, offset, latencies.length);
+            } catch (ExecutionException e) {
+                log.error("场景[{}]压测线程异常", scenario.getName(), e.getCause());
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        long allocated = allocatedSince(allocatedBefore);
+        executor.shutdown();
+
+        return new LoadReport(scenario.getName(), threads, errors.get(), elapsed, allocated, merged);
+    }
+
+    /**
+     * 采集服务端线程当前的累计分配字节数
+     *
+     * @return 返回线程编号与分配字节数
+     */
+    private Map<Long, Long> serverThreadAllocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocated = Maps.newHashMap();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(serverThreadPrefix)) {
+                long bytes = threadMXBean.getThreadAllocatedBytes(thread.getId());
+                if (bytes >= 0) {
+                    allocated.put(thread.getId(), bytes);
+                }
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * 计算服务端线程自上次采集后的分配字节数
+     */
+    private long allocatedSince(Map<Long, Long> before) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : serverThreadAllocatedBytes().entrySet()) {
+            total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private HttpRequest get(String path, String authorizationValue) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(10))
+            .GET();
+        if (authorizationValue != null) {
+            builder.header(AUTHORIZATION, authorizationValue);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest preflight(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(10))
+            .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+            .header(ORIGIN, "http://localhost")
+            .header(ACCESS_CONTROL_REQUEST_METHOD, "GET")
+            .build();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.sample.web.performance;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 压测场景结果
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+public class LoadReport {
+
+    private static final double NANOS_PER_MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * 场景名称
+     */
+    private final String scenario;
+
+    /**
+     * 并发线程数
+     */
+    private final int threads;
+
+    /**
+     * 非2xx响应数
+     */
+    private final long errors;
+
+    /**
+     * 实际耗时（纳秒）
+     */
+    private final long elapsedNanos;
+
+    /**
+     * 服务端线程分配的字节数
+     */
+    private final long allocatedBytes;
+
+    /**
+     * 已排序的请求延迟（纳秒）
+     */
+    private final long[] latencies;
+
+    public LoadReport(String scenario, int threads, long errors, long elapsedNanos, long allocatedBytes, long[] latencies) {
+        this.scenario = scenario;
+        this.threads = threads;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.latencies = latencies;
+        Arrays.sort(this.latencies);
+    }
+
+    /**
+     * 请求总数
+     *
+     * @return 返回请求总数
+     */
+    public long getRequests() {
+        return latencies.length;
+    }
+
+    /**
+     * 吞吐量
+     *
+     * @return 返回每秒请求数
+     */
+    public double getThroughput() {
+        return latencies.length / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * 每个请求在服务端线程上的平均分配字节数
+     *
+     * @return 返回平均分配字节数
+     */
+    public double getAllocatedBytesPerRequest() {
+        return latencies.length == 0 ? 0 : allocatedBytes / (double) latencies.length;
+    }
+
+    /**
+     * 获取延迟百分位（毫秒）
+     *
+     * @param percentile 百分位，取值0~100
+     * @return 返回延迟毫秒数
+     */
+    public double getLatencyMillis(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / NANOS_PER_MILLIS;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "%-24s threads=%-3d requests=%-9d errors=%-6d throughput=%10.1f req/s  p50=%7.3fms p90=%7.3fms p99=%7.3fms p99.9=%7.3fms max=%8.3fms  alloc=%9.0f B/req",
+            scenario, threads, getRequests(), errors, getThroughput(),
+            getLatencyMillis(50), getLatencyMillis(90), getLatencyMillis(99), getLatencyMillis(99.9), getLatencyMillis(100),
+            getAllocatedBytesPerRequest());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.maydear.core.sample.web.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * 压测场景，由一组预先构造好的请求组成，各压测线程按轮询方式发送
+ *
+ * @author kelvin.liang
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class LoadScenario {
+
+    /**
+     * 场景名称
+     */
+    private final String name;
+
+    /**
+     * 预构造请求
+     */
+    private final List<HttpRequest> requests;
+
+    /**
+     * 按序号获取请求
+     *
+     * @param sequence 请求序号
+     * @return 返回请求
+     */
+    public HttpRequest getRequest(long sequence) {
+        return requests.get((int) (sequence % requests.size()));
+    }
+}